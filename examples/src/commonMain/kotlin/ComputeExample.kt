@@ -89,7 +89,7 @@ suspend fun runComputeExample() {
     cmdEncoder.copyBufferToBuffer(storageBuffer, stagingBuffer)
     device.getDefaultQueue().submit(cmdEncoder.finish())
 
-    val times = ByteUtils.toIntArray(stagingBuffer.mapReadAsync(device).getBytes())
+    val times = ByteUtils.toIntArray(stagingBuffer.mapAsync(device, MapMode.READ).getBytes())
 
     setExampleStatus("Expected", "1, 16, 20, 7")
     setExampleStatus("Actual", times.joinToString())
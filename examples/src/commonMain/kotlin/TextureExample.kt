@@ -64,17 +64,12 @@ suspend fun runTextureExample(window: Window) {
             TextureUsage.COPY_DST or TextureUsage.SAMPLED
         )
     val texture = device.createTexture(textureDesc)
-    val textureBuffer =
-        BufferUtils.createBufferFromData(device, "texture temp", imageBytes, BufferUsage.COPY_SRC)
-
-    var cmdEncoder = device.createCommandEncoder()
-    cmdEncoder.copyBufferToTexture(
-        BufferCopyView(textureBuffer, image.width * 4, image.height),
+    device.getDefaultQueue().writeTexture(
         TextureCopyView(texture),
+        imageBytes,
+        image.width * 4,
         Extent3D(image.width.toLong(), image.height.toLong(), 1)
     )
-    device.getDefaultQueue().submit(cmdEncoder.finish())
-    textureBuffer.destroy()
 
     val sampler = device.createSampler(SamplerDescriptor())
     val textureView = texture.createView()
@@ -126,7 +121,7 @@ suspend fun runTextureExample(window: Window) {
 
     Kgpu.runLoop(window) {
         val swapChainTexture = swapChain.getCurrentTextureView()
-        cmdEncoder = device.createCommandEncoder()
+        val cmdEncoder = device.createCommandEncoder()
 
         val colorAttachment =
             RenderPassColorAttachmentDescriptor(swapChainTexture, LoadOp.CLEAR, StoreOp.STORE, Color.WHITE)
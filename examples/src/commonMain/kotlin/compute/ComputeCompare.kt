@@ -173,7 +173,7 @@ private suspend fun computeGPU(matrixA: FloatArray, matrixB: FloatArray): Comput
             cmdEncoder.copyBufferToBuffer(resultBuffer, readBuffer)
             device.getDefaultQueue().submit(cmdEncoder.finish())
 
-            times = ByteUtils.toFloatArray(readBuffer.mapReadAsync(device).getBytes())
+            times = ByteUtils.toFloatArray(readBuffer.mapAsync(device, MapMode.READ).getBytes())
         }
 
     setExampleStatus("Status", "Finished GPU Calculation")
@@ -80,6 +80,12 @@ kotlin {
     }
 }
 
+// The JVM tests load the Panama bindings, and check for host memory leaks
+tasks.withType<Test>().configureEach {
+    jvmArgs("--add-modules", "jdk.incubator.foreign")
+    systemProperty("kgpu.trackNativeMemory", "true")
+}
+
 tasks.withType<DokkaTask>().configureEach {
     outputDirectory = "$rootDir/docs/book/dokka/kgpu"
 
@@ -119,3 +125,40 @@ publishing {
         }
     }
 }
+
+// Rewrites the downcall handles of the jextract bindings into one holder class per symbol, so
+// that each handle is linked on first use but is still a static final constant to the JIT. Run
+// after regenerating wgpu_h with jextract, the task is a no-op on bindings it already rewrote.
+tasks.register("holderizeDowncalls") {
+    val bindingsDir = file("src/jvmMain/java/io/github/kgpu/wgpuj")
+
+    doLast {
+        val handle = Regex(
+            """    static final (?:MethodHandle|RuntimeHelper\.LazyDowncall) (\w+)\${'$'}MH_ = RuntimeHelper\.(?:lazyD|d)owncallHandle\(\n([\s\S]*?)\n    \);\n""" +
+                """    static final java\.lang\.invoke\.MethodHandle \1\${'$'}MH\(\) \{ return \1\${'$'}MH_(?:\.get\(\))?; \}"""
+        )
+        val constants = bindingsDir.listFiles { file -> file.name.matches(Regex("""wgpu_h_constants_\d+\.java""")) }
+            ?: emptyArray()
+
+        for (file in constants) {
+            val className = file.nameWithoutExtension
+            var source = handle.replace(file.readText()) { match ->
+                val (name, arguments) = match.destructured
+                val indented = arguments.lines().joinToString("\n") { "    $it" }
+
+                "    static final class $name\$Holder {\n" +
+                    "        static final MethodHandle MH = RuntimeHelper.linkDowncall(\n" +
+                    "$indented\n" +
+                    "        );\n" +
+                    "    }\n" +
+                    "    static final java.lang.invoke.MethodHandle $name\$MH() { return $name\$Holder.MH; }"
+            }
+
+            val eager = "    static { RuntimeHelper.linkIfEager($className.class); }\n"
+            if (!source.contains(eager))
+                source = source.substring(0, source.lastIndexOf('}')) + eager + "}\n"
+
+            file.writeText(source)
+        }
+    }
+}
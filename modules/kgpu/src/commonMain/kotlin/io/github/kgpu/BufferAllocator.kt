@@ -0,0 +1,241 @@
+package io.github.kgpu
+
+/**
+ * A range of a larger buffer handed out by a [BufferAllocator]. The buffer and offset can change
+ * when the allocator is defragmented, so they should be read again after
+ * [BufferAllocator.defragment] has been called.
+ */
+class BufferAllocation internal constructor(buffer: Buffer, offset: Long, val size: Long) {
+    var buffer: Buffer = buffer
+        internal set
+    var offset: Long = offset
+        internal set
+
+    /** Creates a binding to the allocated range, for use in a bind group */
+    fun toBinding(): BufferBinding {
+        return BufferBinding(buffer, offset, size)
+    }
+
+    override fun toString(): String {
+        return "BufferAllocation($buffer, offset = $offset, size = $size)"
+    }
+}
+
+/**
+ * Sub allocates many small buffers out of a few large blocks, so that each mesh or uniform does
+ * not need a native buffer of its own. Data can be uploaded with [Queue.writeBuffer] using the
+ * offset of the allocation.
+ *
+ * Allocations that are larger than [blockSize] get a block of their own. Every allocation is
+ * aligned to [alignment]. Allocations bound with a [BufferBinding] as uniforms need an alignment
+ * of 256 bytes.
+ *
+ * @param usage the usage of the blocks. COPY_SRC and COPY_DST are always added so that blocks can
+ * be written to and defragmented.
+ */
+class BufferAllocator(
+    private val device: Device,
+    val blockSize: Long,
+    usage: Int,
+    val alignment: Long = 16
+) {
+    private class Block(val buffer: Buffer) {
+        val ranges = RangeAllocator(buffer.size)
+        val allocations = mutableListOf<BufferAllocation>()
+    }
+
+    val usage = usage or BufferUsage.COPY_SRC or BufferUsage.COPY_DST
+    private val blocks = mutableListOf<Block>()
+
+    val blockCount: Int
+        get() = blocks.size
+
+    /** The number of bytes currently handed out to allocations */
+    val usedBytes: Long
+        get() = blocks.sumOf { it.ranges.usedBytes }
+
+    /** The total size of every block */
+    val allocatedBytes: Long
+        get() = blocks.sumOf { it.buffer.size }
+
+    fun allocate(size: Long): BufferAllocation {
+        val alignedSize = align(size)
+        for (block in blocks) {
+            val allocation = tryAllocate(block, size, alignedSize)
+            if (allocation != null)
+                return allocation
+        }
+
+        val block = createBlock(maxOf(blockSize, alignedSize))
+        return tryAllocate(block, size, alignedSize)!!
+    }
+
+    fun free(allocation: BufferAllocation) {
+        val block = findBlock(allocation)
+        if (!block.allocations.remove(allocation))
+            throw IllegalArgumentException("$allocation has already been freed")
+
+        block.ranges.free(allocation.offset, align(allocation.size))
+    }
+
+    /**
+     * Moves the allocations out of blocks that are at most [maxOccupancy] full and into the free
+     * space of other blocks. The copies are recorded into [encoder]. Blocks emptied this way are
+     * destroyed by [trim] once the encoder has been submitted.
+     *
+     * @return the number of allocations that were moved
+     */
+    fun defragment(encoder: CommandEncoder, maxOccupancy: Float = 0.25f): Int {
+        val sources = blocks.filter { block ->
+            block.allocations.isNotEmpty() && block.ranges.usedBytes <= block.buffer.size * maxOccupancy
+        }
+        val targets = blocks.filter { it !in sources }
+        var moved = 0
+
+        for (source in sources) {
+            for (allocation in source.allocations.toList()) {
+                val alignedSize = align(allocation.size)
+                val target = targets.firstOrNull { it.ranges.largestFreeRange >= alignedSize } ?: continue
+                val offset = target.ranges.allocate(alignedSize)
+
+                encoder.copyBufferToBuffer(source.buffer, target.buffer, alignedSize, allocation.offset, offset)
+                source.ranges.free(allocation.offset, alignedSize)
+                source.allocations.remove(allocation)
+
+                allocation.buffer = target.buffer
+                allocation.offset = offset
+                target.allocations.add(allocation)
+                moved++
+            }
+        }
+
+        return moved
+    }
+
+    /**
+     * Destroys blocks with no allocations left. Must not be called while a submission that uses
+     * those blocks, such as one from [defragment], may still be executing.
+     *
+     * @return the number of blocks destroyed
+     */
+    fun trim(): Int {
+        val empty = blocks.filter { it.allocations.isEmpty() }
+        empty.forEach { it.buffer.destroy() }
+        blocks.removeAll(empty)
+
+        return empty.size
+    }
+
+    fun destroy() {
+        blocks.forEach { it.buffer.destroy() }
+        blocks.clear()
+    }
+
+    private fun tryAllocate(block: Block, size: Long, alignedSize: Long): BufferAllocation? {
+        val offset = block.ranges.allocate(alignedSize)
+        if (offset == -1L)
+            return null
+
+        val allocation = BufferAllocation(block.buffer, offset, size)
+        block.allocations.add(allocation)
+        return allocation
+    }
+
+    private fun createBlock(size: Long): Block {
+        val buffer = device.createBuffer(BufferDescriptor("Buffer Allocator Block", size, usage, false))
+        val block = Block(buffer)
+        blocks.add(block)
+
+        return block
+    }
+
+    private fun findBlock(allocation: BufferAllocation): Block {
+        return blocks.firstOrNull { it.buffer === allocation.buffer }
+            ?: throw IllegalArgumentException("$allocation does not belong to this allocator")
+    }
+
+    private fun align(size: Long): Long {
+        return (size + alignment - 1) / alignment * alignment
+    }
+
+    override fun toString(): String {
+        return "BufferAllocator(blocks = $blockCount, usedBytes = $usedBytes, allocatedBytes = $allocatedBytes)"
+    }
+}
+
+/**
+ * Tracks the free ranges of a single block. Allocation is first fit, and neighbouring free ranges
+ * are merged when a range is freed.
+ */
+internal class RangeAllocator(val size: Long) {
+    // Sorted by offset. Free ranges are never adjacent, because they are merged when freed
+    private val offsets = mutableListOf(0L)
+    private val sizes = mutableListOf(size)
+
+    var usedBytes = 0L
+        private set
+
+    val freeRangeCount: Int
+        get() = offsets.size
+
+    val largestFreeRange: Long
+        get() = sizes.maxOrNull() ?: 0L
+
+    /** Returns the offset of the allocated range, or -1 if no free range is large enough */
+    fun allocate(size: Long): Long {
+        for (index in offsets.indices) {
+            if (sizes[index] < size)
+                continue
+
+            val offset = offsets[index]
+            if (sizes[index] == size) {
+                offsets.removeAt(index)
+                sizes.removeAt(index)
+            } else {
+                offsets[index] = offset + size
+                sizes[index] -= size
+            }
+            usedBytes += size
+
+            return offset
+        }
+
+        return -1
+    }
+
+    fun free(offset: Long, size: Long) {
+        val searchIndex = offsets.binarySearch(offset)
+        if (searchIndex >= 0)
+            throw IllegalArgumentException("Range at offset $offset is already free")
+
+        val index = -searchIndex - 1
+        val mergesPrevious = index > 0 && offsets[index - 1] + sizes[index - 1] == offset
+        val mergesNext = index < offsets.size && offset + size == offsets[index]
+
+        when {
+            mergesPrevious && mergesNext -> {
+                sizes[index - 1] += size + sizes[index]
+                offsets.removeAt(index)
+                sizes.removeAt(index)
+            }
+            mergesPrevious -> sizes[index - 1] += size
+            mergesNext -> {
+                offsets[index] = offset
+                sizes[index] += size
+            }
+            else -> {
+                offsets.add(index, offset)
+                sizes.add(index, size)
+            }
+        }
+        usedBytes -= size
+    }
+}
+
+fun RenderPassEncoder.setVertexBuffer(slot: Long, allocation: BufferAllocation) {
+    setVertexBuffer(slot, allocation.buffer, allocation.offset, allocation.size)
+}
+
+fun RenderPassEncoder.setIndexBuffer(allocation: BufferAllocation, indexFormat: IndexFormat) {
+    setIndexBuffer(allocation.buffer, indexFormat, allocation.offset, allocation.size)
+}
@@ -0,0 +1,124 @@
+package io.github.kgpu
+
+data class GpuTiming(val name: String, val durationNanos: Double) {
+    override fun toString(): String {
+        return "GpuTiming(name = $name, durationNanos = $durationNanos)"
+    }
+}
+
+/**
+ * Measures how long scopes of GPU work take, using timestamp queries written between passes. The
+ * device must support timestamp queries.
+ *
+ * A frame using the timer looks like this:
+ * ```
+ * timer.begin(encoder, "shadows")
+ * encoder.beginRenderPass(shadowPass)...
+ * timer.end(encoder)
+ *
+ * timer.resolve(encoder)
+ * queue.submit(encoder.finish())
+ * val timings = timer.read(device)
+ * ```
+ * Results must be read before the timer is used again.
+ *
+ * @param timestampPeriod the number of nanoseconds per timestamp tick
+ */
+class GpuTimer(device: Device, val maxScopes: Int, val timestampPeriod: Double = 1.0) {
+    private val queryCount = maxScopes * 2
+    val querySet = device.createQuerySet(QuerySetDescriptor(QueryType.TIMESTAMP, queryCount))
+    private val resolveBuffer = device.createBuffer(
+        BufferDescriptor(
+            "GPU Timer Resolve",
+            queryCount * Primitives.LONG_BYTES,
+            BufferUsage.QUERY_RESOLVE or BufferUsage.COPY_SRC,
+            false
+        )
+    )
+    private val readBuffer = device.createBuffer(
+        BufferDescriptor(
+            "GPU Timer Read",
+            queryCount * Primitives.LONG_BYTES,
+            BufferUsage.MAP_READ or BufferUsage.COPY_DST,
+            false
+        )
+    )
+    private val names = mutableListOf<String>()
+    private var scopeOpen = false
+    private var resolvedScopes = 0
+
+    /** Writes the timestamp that starts the scope [name] */
+    fun begin(encoder: CommandEncoder, name: String) {
+        if (scopeOpen)
+            throw IllegalStateException("The scope ${names.last()} has not ended")
+        if (names.size >= maxScopes)
+            throw IllegalStateException("Too many GPU timer scopes: $maxScopes")
+
+        encoder.writeTimestamp(querySet, names.size * 2)
+        names.add(name)
+        scopeOpen = true
+    }
+
+    /** Writes the timestamp that ends the current scope */
+    fun end(encoder: CommandEncoder) {
+        if (!scopeOpen)
+            throw IllegalStateException("No GPU timer scope has begun")
+
+        encoder.writeTimestamp(querySet, names.size * 2 - 1)
+        scopeOpen = false
+    }
+
+    inline fun <T> scope(encoder: CommandEncoder, name: String, block: () -> T): T {
+        begin(encoder, name)
+        val result = block()
+        end(encoder)
+
+        return result
+    }
+
+    /** Records copying the timestamps of every scope into a buffer that can be read */
+    fun resolve(encoder: CommandEncoder) {
+        if (scopeOpen)
+            throw IllegalStateException("The scope ${names.last()} has not ended")
+
+        resolvedScopes = names.size
+        if (resolvedScopes == 0)
+            return
+
+        val count = resolvedScopes * 2
+        encoder.resolveQuerySet(querySet, 0, count, resolveBuffer)
+        encoder.copyBufferToBuffer(resolveBuffer, readBuffer, count * Primitives.LONG_BYTES)
+    }
+
+    /**
+     * Suspends until the resolved timestamps can be read and returns the duration of each scope.
+     * Must be called after the encoder passed to [resolve] has been submitted.
+     */
+    suspend fun read(device: Device): List<GpuTiming> {
+        val scopes = names.take(resolvedScopes)
+        names.clear()
+        resolvedScopes = 0
+
+        if (scopes.isEmpty())
+            return emptyList()
+
+        val size = scopes.size * 2 * Primitives.LONG_BYTES
+        val timestamps = ByteUtils.toLongArray(readBuffer.mapAsync(device, MapMode.READ, 0, size).getBytes())
+        readBuffer.unmap()
+
+        return scopes.mapIndexed { index, name ->
+            val ticks = timestamps[index * 2 + 1] - timestamps[index * 2]
+            GpuTiming(name, ticks * timestampPeriod)
+        }
+    }
+
+    fun destroy() {
+        querySet.destroy()
+        resolveBuffer.destroy()
+        readBuffer.destroy()
+    }
+
+    override fun toString(): String {
+        return "GpuTimer(maxScopes = $maxScopes, scopes = ${names.size})"
+    }
+}
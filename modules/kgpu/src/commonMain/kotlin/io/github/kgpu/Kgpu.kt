@@ -13,6 +13,16 @@ expect object Kgpu {
      */
     fun runLoop(window: Window, func: () -> Unit)
 
+    /**
+     * Runs a loop like [runLoop], but never lets the CPU get more than [framesInFlight] frames
+     * ahead of the GPU. Before a frame starts, the loop waits until the GPU has finished the frame
+     * that last used the same frame index, so per frame resources indexed by the frame index can
+     * be safely reused. [func] must submit its work to [queue].
+     *
+     * On the web frames are paced by the browser, so only the frame index is provided.
+     */
+    fun runLoop(window: Window, queue: Queue, framesInFlight: Int, func: (frameIndex: Int) -> Unit)
+
     /**
      * Requests an adapter
      *
@@ -34,6 +44,12 @@ expect class Device {
 
     fun createRenderPipeline(desc: RenderPipelineDescriptor): RenderPipeline
 
+    /**
+     * Creates a render pipeline without blocking the calling thread while its shaders compile. On
+     * the desktop the pipeline is compiled on a worker thread of the device.
+     */
+    suspend fun createRenderPipelineAsync(desc: RenderPipelineDescriptor): RenderPipeline
+
     fun createPipelineLayout(desc: PipelineLayoutDescriptor): PipelineLayout
 
     fun createTexture(desc: TextureDescriptor): Texture
@@ -51,6 +67,13 @@ expect class Device {
     fun createSampler(desc: SamplerDescriptor): Sampler
 
     fun createComputePipeline(desc: ComputePipelineDescriptor): ComputePipeline
+
+    /** Creates a compute pipeline without blocking the calling thread, see [createRenderPipelineAsync] */
+    suspend fun createComputePipelineAsync(desc: ComputePipelineDescriptor): ComputePipeline
+
+    fun createQuerySet(desc: QuerySetDescriptor): QuerySet
+
+    fun createRenderBundleEncoder(desc: RenderBundleEncoderDescriptor): RenderBundleEncoder
 }
 
 expect class Adapter {
@@ -62,6 +85,9 @@ expect class Queue {
 
     fun submit(vararg cmdBuffers: CommandBuffer)
 
+    /** Suspends until all work submitted to the queue so far has finished executing */
+    suspend fun onSubmittedWorkDone()
+
     fun writeBuffer(
         buffer: Buffer,
         data: ByteArray,
@@ -69,6 +95,51 @@ expect class Queue {
         dataOffset: Long = 0,
         size: Long = data.size.toLong()
     )
+
+    /**
+     * Writes floats to a buffer without converting them to a byte array first. [offset] is in
+     * bytes, while [dataOffset] and [size] are in elements.
+     */
+    fun writeBuffer(
+        buffer: Buffer,
+        data: FloatArray,
+        offset: Long = 0,
+        dataOffset: Long = 0,
+        size: Long = data.size.toLong()
+    )
+
+    /**
+     * Writes ints to a buffer without converting them to a byte array first. [offset] is in
+     * bytes, while [dataOffset] and [size] are in elements.
+     */
+    fun writeBuffer(
+        buffer: Buffer,
+        data: IntArray,
+        offset: Long = 0,
+        dataOffset: Long = 0,
+        size: Long = data.size.toLong()
+    )
+
+    /**
+     * Writes texel data to a region of a texture without creating a staging buffer. Unlike
+     * [CommandEncoder.copyBufferToTexture], [bytesPerRow] does not need to be aligned, so tightly
+     * packed rows can be written directly.
+     *
+     * A sub rectangle of the texture can be updated by setting the origin of [destination] and
+     * passing the size of the region as [size]. A sub rectangle of a larger image can be read by
+     * passing the row pitch of the image as [bytesPerRow] and the first texel as [dataOffset].
+     *
+     * @param rowsPerImage the number of rows in each layer of [data]. If 0, the height of [size]
+     * is used
+     */
+    fun writeTexture(
+        destination: TextureCopyView,
+        data: ByteArray,
+        bytesPerRow: Int,
+        size: Extent3D,
+        rowsPerImage: Int = 0,
+        dataOffset: Long = 0
+    )
 }
 
 object ShaderVisibility {
@@ -113,12 +184,33 @@ expect class SwapChain {
 
     fun present()
 
+    /**
+     * The present mode requested by the [SwapChainDescriptor], or by the `kgpu.presentMode` system
+     * property. wgpu-native falls back to [PresentMode.FIFO] without reporting it if the surface
+     * does not support the requested mode, so this is not necessarily the mode in use.
+     */
+    val requestedPresentMode: PresentMode
+
+    /**
+     * Called by [present] with the time between acquiring the current texture view and presenting
+     * it, in nanoseconds. Useful for measuring frame latency with different present modes.
+     */
+    var onPresent: (acquireToPresentNanos: Long) -> Unit
+
     @Deprecated("Old API. Instead use Window#onResize")
     fun isOutOfDate(): Boolean
 }
 
+/**
+ * @param presentMode the requested present mode. wgpu-native falls back to [PresentMode.FIFO] if
+ * the surface does not support it. On the desktop it can be overridden with the `kgpu.presentMode`
+ * system property, for example to benchmark without vsync.
+ */
 expect class SwapChainDescriptor(
-    device: Device, format: TextureFormat, usage: Long = TextureUsage.OUTPUT_ATTACHMENT
+    device: Device,
+    format: TextureFormat,
+    usage: Long = TextureUsage.OUTPUT_ATTACHMENT,
+    presentMode: PresentMode = PresentMode.FIFO
 )
 
 expect class TextureViewDescriptor(
@@ -190,6 +282,14 @@ object BufferUsage {
     const val QUERY_RESOLVE: Int = 512
 }
 
+object MapMode {
+    /** Maps a buffer for reading. The buffer must have been created with [BufferUsage.MAP_READ] */
+    const val READ: Int = 1
+
+    /** Maps a buffer for writing. The buffer must have been created with [BufferUsage.MAP_WRITE] */
+    const val WRITE: Int = 2
+}
+
 expect class BufferDescriptor(label: String, size: Long, usage: Int, mappedAtCreation: Boolean)
 
 expect class Buffer {
@@ -199,11 +299,23 @@ expect class Buffer {
     /** JVM Only */
     fun getMappedData(start: Long = 0, size: Long = this.size): BufferData
 
-    @Deprecated(
-        "Eventually will be replaced with mapAsync() and getMappedData() but waiting on Wgpu-native!"
-    )
+    @Deprecated("Use mapAsync() instead", ReplaceWith("mapAsync(device, MapMode.READ)"))
     suspend fun mapReadAsync(device: Device): BufferData
 
+    /** Maps the whole buffer for writing. The buffer must have been created with MAP_WRITE */
+    suspend fun mapWriteAsync(device: Device): BufferData
+
+    /**
+     * Maps a range of the buffer and suspends until it is mapped, without blocking the calling
+     * thread. Many maps can be in flight at once. [offset] must be a multiple of 8 and [size] a
+     * multiple of 4.
+     *
+     * @param mode either [MapMode.READ] or [MapMode.WRITE]
+     */
+    suspend fun mapAsync(
+        device: Device, mode: Int, offset: Long = 0, size: Long = this.size - offset
+    ): BufferData
+
     fun unmap()
 
     fun destroy()
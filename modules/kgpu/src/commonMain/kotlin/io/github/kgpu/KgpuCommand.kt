@@ -10,6 +10,16 @@ expect class BufferCopyView(
     buffer: Buffer, bytesPerRow: Int, rowsPerImage: Int, offset: Long = 0
 )
 
+@Deprecated(
+    "Offsets are Longs, Int offsets cannot address past 2 GiB",
+    ReplaceWith("copyBufferToBuffer(source, destination, size, sourceOffset.toLong(), destinationOffset.toLong())")
+)
+fun CommandEncoder.copyBufferToBuffer(
+    source: Buffer, destination: Buffer, size: Long, sourceOffset: Int, destinationOffset: Int
+) {
+    copyBufferToBuffer(source, destination, size, sourceOffset.toLong(), destinationOffset.toLong())
+}
+
 expect class CommandEncoder {
 
     fun beginRenderPass(desc: RenderPassDescriptor): RenderPassEncoder
@@ -26,11 +36,43 @@ expect class CommandEncoder {
         source: Buffer,
         destination: Buffer,
         size: Long = destination.size,
-        sourceOffset: Int = 0,
-        destinationOffset: Int = 0
+        sourceOffset: Long = 0,
+        destinationOffset: Long = 0
     )
 
     fun copyTextureToBuffer(source: TextureCopyView, dest: BufferCopyView, size: Extent3D)
+
+    /** Writes a timestamp once all previous commands have finished executing */
+    fun writeTimestamp(querySet: QuerySet, queryIndex: Int)
+
+    /**
+     * Writes the results of a range of queries into [destination] as 64 bit integers. The buffer
+     * must have been created with [BufferUsage.QUERY_RESOLVE] and [destinationOffset] must be a
+     * multiple of 256.
+     */
+    fun resolveQuerySet(
+        querySet: QuerySet,
+        firstQuery: Int,
+        queryCount: Int,
+        destination: Buffer,
+        destinationOffset: Long = 0
+    )
+}
+
+/**
+ * @param pipelineStatistics the statistics recorded by each query. Only used for
+ * [QueryType.PIPELINE_STATISTICS] query sets
+ */
+expect class QuerySetDescriptor(
+    type: QueryType, count: Int, vararg pipelineStatistics: PipelineStatisticName
+)
+
+expect class QuerySet {
+    val type: QueryType
+
+    val count: Int
+
+    fun destroy()
 }
 
 expect class ProgrammableStageDescriptor(module: ShaderModule, entryPoint: String)
@@ -113,9 +155,97 @@ expect class RenderPassEncoder {
         buffer: Buffer, indexFormat: IndexFormat, offset: Long = 0, size: Long = buffer.size
     )
 
+    /**
+     * Draws with the arguments stored in [indirectBuffer] at [indirectOffset]. The arguments can be
+     * written by a compute shader, see [IndirectArgs] for their layout. The buffer must have been
+     * created with [BufferUsage.INDIRECT].
+     */
+    fun drawIndirect(indirectBuffer: Buffer, indirectOffset: Long = 0)
+
+    /** Like [drawIndirect], but with the arguments of [drawIndexed] */
+    fun drawIndexedIndirect(indirectBuffer: Buffer, indirectOffset: Long = 0)
+
+    fun setBindGroup(index: Int, bindGroup: BindGroup)
+
+    /**
+     * Sets a bind group whose layout has dynamic offsets. [dynamicOffsets] holds one byte offset
+     * for each binding with [BufferBindingLayout.hasDynamicOffset], in binding order.
+     */
+    fun setBindGroup(index: Int, bindGroup: BindGroup, dynamicOffsets: IntArray)
+
+    fun writeTimestamp(querySet: QuerySet, queryIndex: Int)
+
+    /** Starts recording the pipeline statistics of the following draws into a query */
+    fun beginPipelineStatisticsQuery(querySet: QuerySet, queryIndex: Int)
+
+    fun endPipelineStatisticsQuery()
+
+    /**
+     * Starts counting the samples that pass the depth and stencil tests into a query of the
+     * pass' occlusion query set
+     */
+    fun beginOcclusionQuery(queryIndex: Int)
+
+    fun endOcclusionQuery()
+
+    /**
+     * Replays the commands recorded in [bundles]. The pass' pipeline, bind groups and vertex and
+     * index buffers are unset afterwards, so they must be set again before drawing directly.
+     */
+    fun executeBundles(vararg bundles: RenderBundle)
+}
+
+/**
+ * Describes the attachments of the render passes a bundle can be executed in. They must match the
+ * attachments of those passes.
+ *
+ * @param depthStencilFormat the format of the depth stencil attachment, or null if the passes have none
+ */
+expect class RenderBundleEncoderDescriptor(
+    vararg colorFormats: TextureFormat,
+    depthStencilFormat: TextureFormat? = null,
+    sampleCount: Int = 1
+)
+
+/**
+ * Records draws once so they can be replayed in any number of render passes with
+ * [RenderPassEncoder.executeBundles]. Useful for static geometry, whose draws would otherwise be
+ * encoded again every frame.
+ */
+expect class RenderBundleEncoder {
+
+    fun setPipeline(pipeline: RenderPipeline)
+
     fun setBindGroup(index: Int, bindGroup: BindGroup)
+
+    fun setBindGroup(index: Int, bindGroup: BindGroup, dynamicOffsets: IntArray)
+
+    fun setVertexBuffer(slot: Long, buffer: Buffer, offset: Long = 0, size: Long = buffer.size)
+
+    fun setIndexBuffer(
+        buffer: Buffer, indexFormat: IndexFormat, offset: Long = 0, size: Long = buffer.size
+    )
+
+    fun draw(vertexCount: Int, instanceCount: Int, firstVertex: Int = 0, firstInstance: Int = 0)
+
+    fun drawIndexed(
+        indexCount: Int,
+        instanceCount: Int,
+        firstVertex: Int = 0,
+        baseVertex: Int = 0,
+        firstInstance: Int = 0
+    )
+
+    fun drawIndirect(indirectBuffer: Buffer, indirectOffset: Long = 0)
+
+    fun drawIndexedIndirect(indirectBuffer: Buffer, indirectOffset: Long = 0)
+
+    /** Ends recording. The encoder can not be used afterwards */
+    fun finish(): RenderBundle
 }
 
+expect class RenderBundle
+
 expect class RenderPassColorAttachmentDescriptor(
     attachment: TextureView,
     loadOp: LoadOp,
@@ -124,7 +254,13 @@ expect class RenderPassColorAttachmentDescriptor(
     resolveTarget: TextureView? = null,
 )
 
-expect class RenderPassDescriptor(vararg colorAttachments: RenderPassColorAttachmentDescriptor)
+/**
+ * @param occlusionQuerySet the query set used by [RenderPassEncoder.beginOcclusionQuery]
+ */
+expect class RenderPassDescriptor(
+    vararg colorAttachments: RenderPassColorAttachmentDescriptor,
+    occlusionQuerySet: QuerySet? = null
+)
 
 expect class ComputePipelineDescriptor(
     layout: PipelineLayout, computeStage: ProgrammableStageDescriptor
@@ -138,7 +274,23 @@ expect class ComputePassEncoder {
 
     fun setBindGroup(index: Int, bindGroup: BindGroup)
 
+    /** See [RenderPassEncoder.setBindGroup] */
+    fun setBindGroup(index: Int, bindGroup: BindGroup, dynamicOffsets: IntArray)
+
     fun dispatch(x: Int, y: Int = 1, z: Int = 1)
 
+    /**
+     * Dispatches with the workgroup counts stored in [indirectBuffer] at [indirectOffset]. See
+     * [IndirectArgs] for their layout.
+     */
+    fun dispatchIndirect(indirectBuffer: Buffer, indirectOffset: Long = 0)
+
+    fun writeTimestamp(querySet: QuerySet, queryIndex: Int)
+
+    /** Starts recording the pipeline statistics of the following dispatches into a query */
+    fun beginPipelineStatisticsQuery(querySet: QuerySet, queryIndex: Int)
+
+    fun endPipelineStatisticsQuery()
+
     fun endPass()
 }
\ No newline at end of file
@@ -373,3 +373,32 @@ expect enum class SamplerBindingType {
     NON_FILTERING,
     COMPARISON,
 }
+
+expect enum class QueryType {
+    OCCLUSION,
+    PIPELINE_STATISTICS,
+    TIMESTAMP,
+}
+
+expect enum class PipelineStatisticName {
+    VERTEX_SHADER_INVOCATIONS,
+    CLIPPER_INVOCATIONS,
+    CLIPPER_PRIMITIVES_OUT,
+    FRAGMENT_SHADER_INVOCATIONS,
+    COMPUTE_SHADER_INVOCATIONS,
+}
+
+/**
+ * How frames are queued for display. Only used on the desktop, on the web frames are always
+ * presented by the browser.
+ */
+expect enum class PresentMode {
+    /** Frames are presented immediately, which can cause tearing */
+    IMMEDIATE,
+
+    /** Frames wait for vsync, but newer frames replace queued ones without blocking */
+    MAILBOX,
+
+    /** Frames wait for vsync in a queue. Always supported */
+    FIFO,
+}
@@ -0,0 +1,166 @@
+package io.github.kgpu
+
+/**
+ * Tracks the visibility of objects with occlusion queries. Results are read back asynchronously
+ * [latency] frames after they were recorded, so the CPU never waits on the GPU for them. Objects
+ * are treated as visible until their first result arrives.
+ *
+ * A frame using the queries looks like this:
+ * ```
+ * val pass = encoder.beginRenderPass(RenderPassDescriptor(color, occlusionQuerySet = queries.querySet))
+ * for ((index, obj) in objects.withIndex()) {
+ *     if (!queries.isVisible(index)) {
+ *         // Draw a cheap bounding box instead, so the object is found when it becomes visible
+ *     }
+ *     queries.begin(pass, index)
+ *     ...
+ *     queries.end(pass)
+ * }
+ * pass.endPass()
+ *
+ * queries.resolve(encoder)
+ * queue.submit(encoder.finish())
+ * queries.collect(device)
+ * ```
+ *
+ * Only the queries up to the highest index begun in a frame are resolved and read back, so a large
+ * query set costs little on frames that use a few of its queries.
+ *
+ * @param count the number of queries, one for each object
+ * @param latency the number of frames between recording a query and reading its result
+ */
+class OcclusionQueries(device: Device, val count: Int, val latency: Int = 2) {
+    // Checks the latency before any GPU objects are created
+    private val frames = OcclusionFrames(latency)
+    val querySet = device.createQuerySet(QuerySetDescriptor(QueryType.OCCLUSION, count))
+    private val resultsSize = count * Primitives.LONG_BYTES
+    private val resolveBuffer = device.createBuffer(
+        BufferDescriptor(
+            "Occlusion Query Resolve",
+            resultsSize,
+            BufferUsage.QUERY_RESOLVE or BufferUsage.COPY_SRC,
+            false
+        )
+    )
+    private val readBuffers = List(latency) {
+        device.createBuffer(
+            BufferDescriptor(
+                "Occlusion Query Read",
+                resultsSize,
+                BufferUsage.MAP_READ or BufferUsage.COPY_DST,
+                false
+            )
+        )
+    }
+    private val samples = LongArray(count) { 1 }
+
+    fun begin(pass: RenderPassEncoder, index: Int) {
+        frames.begin(index)
+        pass.beginOcclusionQuery(index)
+    }
+
+    fun end(pass: RenderPassEncoder) {
+        pass.endOcclusionQuery()
+    }
+
+    /** Records copying this frame's results into a buffer that is read [latency] frames later */
+    fun resolve(encoder: CommandEncoder) {
+        val used = frames.used
+        val slot = frames.resolve()
+        if (used == 0)
+            return
+
+        encoder.resolveQuerySet(querySet, 0, used, resolveBuffer)
+        encoder.copyBufferToBuffer(resolveBuffer, readBuffers[slot], used * Primitives.LONG_BYTES)
+    }
+
+    /**
+     * Reads the results resolved [latency] - 1 frames ago, if any. Must be called once per frame,
+     * after the encoder passed to [resolve] has been submitted.
+     */
+    suspend fun collect(device: Device) {
+        val slot = frames.ready()
+        if (slot == -1)
+            return
+
+        val used = frames.resolvedCount(slot)
+        if (used > 0) {
+            val buffer = readBuffers[slot]
+            val data = buffer.mapAsync(device, MapMode.READ, 0, used * Primitives.LONG_BYTES)
+            ByteUtils.toLongArray(data.getBytes()).copyInto(samples)
+            buffer.unmap()
+        }
+        frames.collected(slot)
+    }
+
+    /** Returns the number of samples that passed in the last collected result of the query */
+    fun sampleCount(index: Int): Long {
+        return samples[index]
+    }
+
+    fun isVisible(index: Int): Boolean {
+        return samples[index] != 0L
+    }
+
+    fun destroy() {
+        querySet.destroy()
+        resolveBuffer.destroy()
+        readBuffers.forEach { it.destroy() }
+    }
+
+    override fun toString(): String {
+        return "OcclusionQueries(count = $count, latency = $latency, frame = ${frames.frame})"
+    }
+}
+
+/**
+ * The frame bookkeeping of [OcclusionQueries]. Each frame resolves into the next of [latency]
+ * read back slots, and a slot is read once the frames have come around to it again.
+ */
+internal class OcclusionFrames(val latency: Int) {
+    // The number of queries resolved into each slot, or -1 if the slot has nothing to read
+    private val resolvedCounts = IntArray(latency) { -1 }
+
+    init {
+        if (latency < 1)
+            throw IllegalArgumentException("Latency must be at least one frame: $latency")
+    }
+
+    var frame = 0L
+        private set
+
+    /** The number of queries to resolve this frame, one past the highest index that was begun */
+    var used = 0
+        private set
+
+    fun begin(index: Int) {
+        if (index >= used)
+            used = index + 1
+    }
+
+    /** Returns the slot to resolve this frame's queries into, and starts the next frame */
+    fun resolve(): Int {
+        val slot = (frame % latency).toInt()
+        if (resolvedCounts[slot] != -1)
+            throw IllegalStateException("Occlusion results from frame ${frame - latency} were not collected")
+
+        resolvedCounts[slot] = used
+        used = 0
+        frame++
+        return slot
+    }
+
+    /** Returns the slot resolved [latency] - 1 frames ago, or -1 if there is nothing to read */
+    fun ready(): Int {
+        val slot = (frame % latency).toInt()
+        return if (resolvedCounts[slot] == -1) -1 else slot
+    }
+
+    fun resolvedCount(slot: Int): Int {
+        return resolvedCounts[slot]
+    }
+
+    fun collected(slot: Int) {
+        resolvedCounts[slot] = -1
+    }
+}
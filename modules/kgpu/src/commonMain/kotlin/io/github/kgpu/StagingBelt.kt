@@ -0,0 +1,132 @@
+package io.github.kgpu
+
+/**
+ * Uploads data to buffers through a pool of reusable staging chunks, instead of creating a new
+ * mapped buffer for every upload. Each chunk is a MAP_WRITE | COPY_SRC buffer that writes are sub
+ * allocated from. Once the GPU is done with a chunk it is mapped again and reused.
+ *
+ * A frame using the belt looks like this:
+ * ```
+ * val data = belt.write(encoder, uniformBuffer, 0, 64)
+ * data.putBytes(bytes)
+ *
+ * belt.finish()
+ * queue.submit(encoder.finish())
+ * belt.recall()
+ * ```
+ *
+ * @param chunkSize the size of each chunk. Writes larger than this get a chunk of their own
+ */
+class StagingBelt(private val device: Device, val chunkSize: Long) {
+    private class Chunk(val buffer: Buffer) {
+        var offset = 0L
+    }
+
+    private val activeChunks = mutableListOf<Chunk>()
+    private val closedChunks = mutableListOf<Chunk>()
+    private val freeChunks = mutableListOf<Chunk>()
+
+    /** The number of chunks created by this belt */
+    var chunkCount = 0
+        private set
+
+    /** The total size of all chunks created by this belt */
+    var allocatedBytes = 0L
+        private set
+
+    /**
+     * Records a copy of [size] bytes into [target] at [offset] and returns the mapped staging memory
+     * that the data must be written to. The data must be written before [finish] is called.
+     *
+     * @param size the number of bytes to write. Must be a multiple of 4
+     */
+    fun write(encoder: CommandEncoder, target: Buffer, offset: Long, size: Long): BufferData {
+        if (size % COPY_ALIGNMENT != 0L)
+            throw IllegalArgumentException("Staging belt writes must be a multiple of $COPY_ALIGNMENT bytes: $size")
+
+        val chunk = activeChunks.firstOrNull { it.offset + size <= it.buffer.size }
+            ?: takeFreeChunk(size)
+            ?: createChunk(size)
+
+        encoder.copyBufferToBuffer(chunk.buffer, target, size, chunk.offset, offset)
+        val data = chunk.buffer.getMappedData(chunk.offset, size)
+        chunk.offset = align(chunk.offset + size, MAP_ALIGNMENT)
+
+        return data
+    }
+
+    /**
+     * Unmaps all chunks that were written to, so the copies recorded by [write] can be executed.
+     * Must be called before the command encoder is finished.
+     */
+    fun finish() {
+        activeChunks.forEach { it.buffer.unmap() }
+        closedChunks.addAll(activeChunks)
+        activeChunks.clear()
+    }
+
+    /**
+     * Maps the chunks used since the last call to [recall] again, so they can be reused. Must be
+     * called after the commands using the belt have been submitted.
+     */
+    suspend fun recall() {
+        closedChunks.forEach { chunk ->
+            chunk.buffer.mapWriteAsync(device)
+            chunk.offset = 0
+        }
+        freeChunks.addAll(closedChunks)
+        closedChunks.clear()
+    }
+
+    /** Destroys every chunk owned by the belt */
+    fun destroy() {
+        (activeChunks + closedChunks + freeChunks).forEach { it.buffer.destroy() }
+        activeChunks.clear()
+        closedChunks.clear()
+        freeChunks.clear()
+    }
+
+    private fun takeFreeChunk(size: Long): Chunk? {
+        val index = freeChunks.indexOfFirst { size <= it.buffer.size }
+        if (index == -1)
+            return null
+
+        val chunk = freeChunks.removeAt(index)
+        activeChunks.add(chunk)
+        return chunk
+    }
+
+    private fun createChunk(size: Long): Chunk {
+        val chunkSize = maxOf(chunkSize, align(size, MAP_ALIGNMENT))
+        val buffer = device.createBuffer(
+            BufferDescriptor(
+                "Staging Belt Chunk",
+                chunkSize,
+                BufferUsage.MAP_WRITE or BufferUsage.COPY_SRC,
+                true
+            )
+        )
+        val chunk = Chunk(buffer)
+        activeChunks.add(chunk)
+        chunkCount++
+        allocatedBytes += chunkSize
+
+        return chunk
+    }
+
+    override fun toString(): String {
+        return "StagingBelt(chunks = $chunkCount, allocatedBytes = $allocatedBytes)"
+    }
+
+    private companion object {
+        /** Copies between buffers must be aligned to 4 bytes */
+        const val COPY_ALIGNMENT = 4L
+
+        /** Mapped ranges must start at a multiple of 8 bytes */
+        const val MAP_ALIGNMENT = 8L
+
+        fun align(value: Long, alignment: Long): Long {
+            return (value + alignment - 1) / alignment * alignment
+        }
+    }
+}
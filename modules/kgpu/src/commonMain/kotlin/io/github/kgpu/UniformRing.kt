@@ -0,0 +1,121 @@
+package io.github.kgpu
+
+/**
+ * Packs per draw uniforms into a single uniform buffer, so that many objects can share one bind
+ * group with a dynamic offset instead of each having a bind group of its own. The uniforms are
+ * gathered on the CPU and uploaded with a single [Queue.writeBuffer] per frame.
+ *
+ * A frame using the ring looks like this:
+ * ```
+ * ring.reset()
+ * val offsets = objects.map { ring.push(it.modelMatrix) }
+ * ring.flush(queue)
+ *
+ * objects.forEachIndexed { i, obj ->
+ *     pass.setBindGroup(1, objectGroup, intArrayOf(offsets[i]))
+ *     ...
+ * }
+ * ```
+ * The bind group should bind [binding] to a [BufferBindingLayout] with hasDynamicOffset set.
+ *
+ * @param size the size of the uniform buffer in bytes
+ * @param bindingSize the size of the uniforms of a single draw, in bytes
+ * @param alignment the alignment of each draw's uniforms. Must be a multiple of the device's
+ * minimum uniform buffer offset alignment
+ */
+class UniformRing(
+    device: Device,
+    val size: Long,
+    val bindingSize: Long,
+    val alignment: Long = MIN_UNIFORM_OFFSET_ALIGNMENT
+) {
+    val buffer = device.createBuffer(
+        BufferDescriptor("Uniform Ring", size, BufferUsage.UNIFORM or BufferUsage.COPY_DST, false)
+    )
+    private val data = FloatArray((size / Float.SIZE_BYTES).toInt())
+    private val offsets = RingOffsets(size, bindingSize, alignment)
+
+    /** The binding to use in the bind group. Each draw selects its uniforms with a dynamic offset */
+    val binding = BufferBinding(buffer, 0, bindingSize)
+
+    /** The number of bytes pushed since the last [reset] */
+    val usedBytes: Long
+        get() = offsets.head
+
+    /** The number of draws that fit in the ring */
+    val capacity: Int
+        get() = offsets.capacity
+
+    /**
+     * Copies [uniforms] into the ring and returns the dynamic offset to bind them with.
+     *
+     * @throws IllegalStateException if the ring is full
+     */
+    fun push(uniforms: FloatArray): Int {
+        if (uniforms.size * Float.SIZE_BYTES > bindingSize)
+            throw IllegalArgumentException("Uniforms are larger than the binding size: ${uniforms.size * Float.SIZE_BYTES} > $bindingSize")
+        val offset = offsets.next()
+        if (offset == -1L)
+            throw IllegalStateException("Uniform ring is full: $capacity draws")
+
+        uniforms.copyInto(data, (offset / Float.SIZE_BYTES).toInt())
+        return offset.toInt()
+    }
+
+    /** Uploads everything pushed since the last [reset]. Must be called before the frame is submitted */
+    fun flush(queue: Queue) {
+        if (offsets.head == 0L)
+            return
+
+        queue.writeBuffer(buffer, data, 0, 0, offsets.head / Float.SIZE_BYTES)
+    }
+
+    /** Starts a new frame. Writes from the previous frame are ordered before it on the queue */
+    fun reset() {
+        offsets.reset()
+    }
+
+    fun destroy() {
+        buffer.destroy()
+    }
+
+    override fun toString(): String {
+        return "UniformRing(size = $size, stride = ${offsets.stride}, usedBytes = $usedBytes)"
+    }
+
+    companion object {
+        /**
+         * The default minimum alignment of dynamic uniform buffer offsets in WebGPU. Native wgpu
+         * does not expose device limits yet, so this is used as the default alignment.
+         */
+        const val MIN_UNIFORM_OFFSET_ALIGNMENT = 256L
+    }
+}
+
+/**
+ * Hands out the offsets of a [UniformRing]. Each binding starts at a multiple of the alignment, and
+ * the ring starts over from offset 0 when it is reset.
+ */
+internal class RingOffsets(val size: Long, bindingSize: Long, alignment: Long) {
+    val stride = (bindingSize + alignment - 1) / alignment * alignment
+
+    var head = 0L
+        private set
+
+    val capacity: Int
+        get() = (size / stride).toInt()
+
+    /** Returns the offset of the next binding, or -1 if the ring is full */
+    fun next(): Long {
+        if (head + stride > size)
+            return -1
+
+        val offset = head
+        head += stride
+        return offset
+    }
+
+    fun reset() {
+        head = 0
+    }
+}
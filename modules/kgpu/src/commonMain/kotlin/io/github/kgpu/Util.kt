@@ -25,6 +25,110 @@ object BufferUtils {
     }
 }
 
+object TextureUtils {
+    /**
+     * The alignment in bytes that [BufferCopyView.bytesPerRow] must have when copying between a
+     * buffer and a texture.
+     */
+    const val COPY_BYTES_PER_ROW_ALIGNMENT = 256
+
+    /** Rounds bytesPerRow up to the alignment required for buffer to texture copies */
+    fun alignedBytesPerRow(bytesPerRow: Int): Int {
+        val alignment = COPY_BYTES_PER_ROW_ALIGNMENT
+
+        return (bytesPerRow + alignment - 1) / alignment * alignment
+    }
+
+    /**
+     * Copies tightly packed rows into a new array where every row starts at a multiple of
+     * [COPY_BYTES_PER_ROW_ALIGNMENT], so it can be used with [CommandEncoder.copyBufferToTexture].
+     * Not needed for [Queue.writeTexture], which accepts tightly packed rows.
+     */
+    fun padRows(data: ByteArray, bytesPerRow: Int, rows: Int): ByteArray {
+        val alignedBytesPerRow = alignedBytesPerRow(bytesPerRow)
+        if (alignedBytesPerRow == bytesPerRow)
+            return data
+
+        val padded = ByteArray(alignedBytesPerRow * rows)
+        for (row in 0 until rows) {
+            data.copyInto(padded, row * alignedBytesPerRow, row * bytesPerRow, (row + 1) * bytesPerRow)
+        }
+
+        return padded
+    }
+}
+
+/**
+ * Lays out the arguments of indirect draws and dispatches. Each argument is a 32 bit integer, so
+ * the arguments can be written into an [IntArray] and uploaded with [Queue.writeBuffer], or
+ * written by a compute shader into a buffer with [BufferUsage.INDIRECT] and [BufferUsage.STORAGE].
+ */
+object IndirectArgs {
+    /** The size in bytes of the arguments of [RenderPassEncoder.drawIndirect] */
+    const val DRAW_SIZE: Long = 16
+
+    /** The size in bytes of the arguments of [RenderPassEncoder.drawIndexedIndirect] */
+    const val DRAW_INDEXED_SIZE: Long = 20
+
+    /** The size in bytes of the arguments of [ComputePassEncoder.dispatchIndirect] */
+    const val DISPATCH_SIZE: Long = 12
+
+    fun draw(vertexCount: Int, instanceCount: Int, firstVertex: Int = 0, firstInstance: Int = 0): IntArray {
+        return intArrayOf(vertexCount, instanceCount, firstVertex, firstInstance)
+    }
+
+    fun drawIndexed(
+        indexCount: Int,
+        instanceCount: Int,
+        firstIndex: Int = 0,
+        baseVertex: Int = 0,
+        firstInstance: Int = 0
+    ): IntArray {
+        return intArrayOf(indexCount, instanceCount, firstIndex, baseVertex, firstInstance)
+    }
+
+    fun dispatch(x: Int, y: Int = 1, z: Int = 1): IntArray {
+        return intArrayOf(x, y, z)
+    }
+
+    /**
+     * Writes the arguments of the [index]th draw into an array of packed draw arguments, so many
+     * draws can be uploaded at once. The byte offset of the draw is `index * DRAW_SIZE`.
+     */
+    fun putDraw(
+        args: IntArray,
+        index: Int,
+        vertexCount: Int,
+        instanceCount: Int,
+        firstVertex: Int = 0,
+        firstInstance: Int = 0
+    ) {
+        val i = index * (DRAW_SIZE / Primitives.INT_BYTES).toInt()
+        args[i] = vertexCount
+        args[i + 1] = instanceCount
+        args[i + 2] = firstVertex
+        args[i + 3] = firstInstance
+    }
+
+    /** Like [putDraw], with the byte offset of the draw being `index * DRAW_INDEXED_SIZE` */
+    fun putDrawIndexed(
+        args: IntArray,
+        index: Int,
+        indexCount: Int,
+        instanceCount: Int,
+        firstIndex: Int = 0,
+        baseVertex: Int = 0,
+        firstInstance: Int = 0
+    ) {
+        val i = index * (DRAW_INDEXED_SIZE / Primitives.INT_BYTES).toInt()
+        args[i] = indexCount
+        args[i + 1] = instanceCount
+        args[i + 2] = firstIndex
+        args[i + 3] = baseVertex
+        args[i + 4] = firstInstance
+    }
+}
+
 object ByteUtils {
     fun toByteArray(floatArray: FloatArray): ByteArray {
         val bytes = ByteArray(floatArray.size * 4)
@@ -75,6 +179,22 @@ object ByteUtils {
         return ints
     }
 
+    fun toLongArray(byteArray: ByteArray): LongArray {
+        val longs = LongArray(byteArray.size / 8)
+
+        for (i in longs.indices) {
+            val byteI = i * 8
+            var value = 0L
+            for (b in 7 downTo 0) {
+                value = (value shl 8) or (byteArray[byteI + b].toLong() and 0xFF)
+            }
+
+            longs[i] = value
+        }
+
+        return longs
+    }
+
     fun toByteArray(intArray: IntArray): ByteArray {
         val bytes = ByteArray(intArray.size * 4)
         intArray.forEachIndexed { index, bits ->
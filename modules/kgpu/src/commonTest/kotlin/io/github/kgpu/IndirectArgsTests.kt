@@ -0,0 +1,40 @@
+package io.github.kgpu
+
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+class IndirectArgsTests {
+
+    @Test
+    fun sizesTest() {
+        assertEquals(IndirectArgs.DRAW_SIZE, IndirectArgs.draw(3, 1).size * Primitives.INT_BYTES)
+        assertEquals(IndirectArgs.DRAW_INDEXED_SIZE, IndirectArgs.drawIndexed(6, 1).size * Primitives.INT_BYTES)
+        assertEquals(IndirectArgs.DISPATCH_SIZE, IndirectArgs.dispatch(8).size * Primitives.INT_BYTES)
+    }
+
+    @Test
+    fun fieldOrderTest() {
+        assertTrue(intArrayOf(3, 2, 1, 4).contentEquals(IndirectArgs.draw(3, 2, 1, 4)))
+        assertTrue(intArrayOf(6, 2, 1, -3, 4).contentEquals(IndirectArgs.drawIndexed(6, 2, 1, -3, 4)))
+        assertTrue(intArrayOf(8, 1, 1).contentEquals(IndirectArgs.dispatch(8)))
+    }
+
+    @Test
+    fun putDrawTest() {
+        val args = IntArray(8)
+        IndirectArgs.putDraw(args, 0, 3, 1)
+        IndirectArgs.putDraw(args, 1, 6, 2, 3, 1)
+
+        assertTrue(intArrayOf(3, 1, 0, 0, 6, 2, 3, 1).contentEquals(args))
+    }
+
+    @Test
+    fun putDrawIndexedTest() {
+        val args = IntArray(10)
+        IndirectArgs.putDrawIndexed(args, 1, 6, 2, 3, -1, 1)
+
+        // The second draw starts at byte offset DRAW_INDEXED_SIZE
+        assertTrue(intArrayOf(0, 0, 0, 0, 0, 6, 2, 3, -1, 1).contentEquals(args))
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.kgpu
+
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+
+class OcclusionFramesTests {
+
+    @Test
+    fun usedCountTest() {
+        val frames = OcclusionFrames(2)
+
+        assertEquals(0, frames.used)
+        frames.begin(3)
+        frames.begin(1)
+        assertEquals(4, frames.used)
+
+        val slot = frames.resolve()
+        assertEquals(4, frames.resolvedCount(slot))
+        assertEquals(0, frames.used)
+    }
+
+    @Test
+    fun latencyTest() {
+        val frames = OcclusionFrames(2)
+
+        frames.begin(0)
+        assertEquals(0, frames.resolve())
+        assertEquals(-1, frames.ready())
+
+        frames.begin(1)
+        assertEquals(1, frames.resolve())
+        // Frame 0 is read while frame 1 may still be on the GPU
+        assertEquals(0, frames.ready())
+        assertEquals(1, frames.resolvedCount(0))
+        frames.collected(0)
+
+        assertEquals(0, frames.resolve())
+        assertEquals(1, frames.ready())
+        assertEquals(2, frames.resolvedCount(1))
+        assertEquals(3, frames.frame)
+    }
+
+    @Test
+    fun singleFrameLatencyTest() {
+        val frames = OcclusionFrames(1)
+
+        frames.begin(0)
+        assertEquals(0, frames.resolve())
+        assertEquals(0, frames.ready())
+        frames.collected(0)
+        assertEquals(-1, frames.ready())
+    }
+
+    @Test
+    fun uncollectedSlotTest() {
+        val frames = OcclusionFrames(2)
+        frames.resolve()
+        frames.resolve()
+
+        assertFailsWith<IllegalStateException> { frames.resolve() }
+    }
+
+    @Test
+    fun invalidLatencyTest() {
+        assertFailsWith<IllegalArgumentException> { OcclusionFrames(0) }
+    }
+}
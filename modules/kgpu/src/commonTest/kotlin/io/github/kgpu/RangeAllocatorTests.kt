@@ -0,0 +1,49 @@
+package io.github.kgpu
+
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+class RangeAllocatorTests {
+
+    @Test
+    fun allocateTest() {
+        val ranges = RangeAllocator(64)
+
+        assertEquals(0, ranges.allocate(16))
+        assertEquals(16, ranges.allocate(32))
+        assertEquals(-1, ranges.allocate(32))
+        assertEquals(48, ranges.allocate(16))
+        assertEquals(64, ranges.usedBytes)
+        assertEquals(0, ranges.freeRangeCount)
+    }
+
+    @Test
+    fun freeMergesNeighboursTest() {
+        val ranges = RangeAllocator(64)
+        val a = ranges.allocate(16)
+        val b = ranges.allocate(16)
+        val c = ranges.allocate(16)
+
+        ranges.free(a, 16)
+        ranges.free(c, 16)
+        assertEquals(2, ranges.freeRangeCount)
+        assertEquals(32, ranges.largestFreeRange)
+
+        ranges.free(b, 16)
+        assertEquals(1, ranges.freeRangeCount)
+        assertEquals(64, ranges.largestFreeRange)
+        assertEquals(0, ranges.usedBytes)
+    }
+
+    @Test
+    fun firstFitTest() {
+        val ranges = RangeAllocator(64)
+        val a = ranges.allocate(16)
+        ranges.allocate(16)
+
+        ranges.free(a, 16)
+        assertEquals(0, ranges.allocate(8))
+        assertEquals(8, ranges.allocate(8))
+        assertEquals(32, ranges.allocate(16))
+    }
+}
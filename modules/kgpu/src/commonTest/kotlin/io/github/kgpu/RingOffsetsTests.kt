@@ -0,0 +1,49 @@
+package io.github.kgpu
+
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+class RingOffsetsTests {
+
+    @Test
+    fun strideTest() {
+        assertEquals(256, RingOffsets(1024, 64, 256).stride)
+        assertEquals(256, RingOffsets(1024, 256, 256).stride)
+        assertEquals(512, RingOffsets(1024, 300, 256).stride)
+        assertEquals(16, RingOffsets(1024, 12, 16).stride)
+    }
+
+    @Test
+    fun alignedOffsetsTest() {
+        val ring = RingOffsets(1024, 64, 256)
+
+        assertEquals(4, ring.capacity)
+        assertEquals(0, ring.next())
+        assertEquals(256, ring.next())
+        assertEquals(512, ring.next())
+        assertEquals(768, ring.head)
+    }
+
+    @Test
+    fun fullTest() {
+        val ring = RingOffsets(1000, 64, 256)
+
+        assertEquals(3, ring.capacity)
+        repeat(3) { ring.next() }
+        assertEquals(-1, ring.next())
+        assertEquals(768, ring.head)
+    }
+
+    @Test
+    fun resetWrapsTest() {
+        val ring = RingOffsets(512, 256, 256)
+        ring.next()
+        ring.next()
+        assertEquals(-1, ring.next())
+
+        ring.reset()
+        assertEquals(0, ring.head)
+        assertEquals(0, ring.next())
+        assertEquals(256, ring.next())
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.kgpu
+
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertSame
+import kotlin.test.assertTrue
+
+class TextureUtilsTests {
+
+    @Test
+    fun alignedBytesPerRowTest() {
+        assertEquals(256, TextureUtils.alignedBytesPerRow(1))
+        assertEquals(256, TextureUtils.alignedBytesPerRow(256))
+        assertEquals(512, TextureUtils.alignedBytesPerRow(257))
+    }
+
+    @Test
+    fun padRowsTest() {
+        val data = ByteArray(12) { (it + 1).toByte() }
+        val padded = TextureUtils.padRows(data, 4, 3)
+
+        assertEquals(3 * 256, padded.size)
+        for (row in 0 until 3) {
+            val expected = data.copyOfRange(row * 4, row * 4 + 4)
+            assertTrue(expected.contentEquals(padded.copyOfRange(row * 256, row * 256 + 4)))
+            assertTrue(padded.copyOfRange(row * 256 + 4, (row + 1) * 256).all { it == 0.toByte() })
+        }
+    }
+
+    @Test
+    fun alignedRowsAreNotCopiedTest() {
+        val data = ByteArray(512)
+
+        assertSame(data, TextureUtils.padRows(data, 256, 2))
+    }
+}
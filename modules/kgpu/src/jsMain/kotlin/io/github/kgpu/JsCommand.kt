@@ -38,7 +38,7 @@ actual class CommandEncoder(val jsType: GPUCommandEncoder) {
     }
 
     actual fun copyBufferToBuffer(
-        source: Buffer, destination: Buffer, size: Long, sourceOffset: Int, destinationOffset: Int
+        source: Buffer, destination: Buffer, size: Long, sourceOffset: Long, destinationOffset: Long
     ) {
         jsType.copyBufferToBuffer(
             source.jsType, sourceOffset, destination.jsType, destinationOffset, size
@@ -48,6 +48,16 @@ actual class CommandEncoder(val jsType: GPUCommandEncoder) {
     actual fun copyTextureToBuffer(source: TextureCopyView, dest: BufferCopyView, size: Extent3D) {
         jsType.copyTextureToBuffer(source, dest, size)
     }
+
+    actual fun writeTimestamp(querySet: QuerySet, queryIndex: Int) {
+        jsType.writeTimestamp(querySet.jsType, queryIndex)
+    }
+
+    actual fun resolveQuerySet(
+        querySet: QuerySet, firstQuery: Int, queryCount: Int, destination: Buffer, destinationOffset: Long
+    ) {
+        jsType.resolveQuerySet(querySet.jsType, firstQuery, queryCount, destination.jsType, destinationOffset)
+    }
 }
 
 external class GPUCommandEncoder {
@@ -64,15 +74,45 @@ external class GPUCommandEncoder {
 
     fun copyBufferToBuffer(
         source: GPUBuffer,
-        sourceOffset: Int,
+        sourceOffset: Long,
         destination: GPUBuffer,
-        destinationOffset: Int,
+        destinationOffset: Long,
         size: Long
     )
 
     fun copyTextureToBuffer(
         source: TextureCopyView, destination: BufferCopyView, copySize: Extent3D
     )
+
+    fun writeTimestamp(querySet: GPUQuerySet, queryIndex: Int)
+
+    fun resolveQuerySet(
+        querySet: GPUQuerySet,
+        firstQuery: Int,
+        queryCount: Int,
+        destination: GPUBuffer,
+        destinationOffset: Long
+    )
+}
+
+actual class QuerySetDescriptor
+actual constructor(
+    type: QueryType, val count: Int, vararg pipelineStatistics: PipelineStatisticName
+) {
+    val queryType = type
+    val type = type.jsType
+    val pipelineStatistics = pipelineStatistics.map { it.jsType }.toTypedArray()
+}
+
+actual class QuerySet(val jsType: GPUQuerySet, actual val type: QueryType, actual val count: Int) {
+
+    actual fun destroy() {
+        jsType.destroy()
+    }
+}
+
+external class GPUQuerySet {
+    fun destroy()
 }
 
 actual class RenderPassEncoder(val jsType: GPURenderPassEncoder) {
@@ -102,9 +142,45 @@ actual class RenderPassEncoder(val jsType: GPURenderPassEncoder) {
         jsType.setIndexBuffer(buffer.jsType, indexFormat.jsType, offset, size)
     }
 
+    actual fun drawIndirect(indirectBuffer: Buffer, indirectOffset: Long) {
+        jsType.drawIndirect(indirectBuffer.jsType, indirectOffset)
+    }
+
+    actual fun drawIndexedIndirect(indirectBuffer: Buffer, indirectOffset: Long) {
+        jsType.drawIndexedIndirect(indirectBuffer.jsType, indirectOffset)
+    }
+
     actual fun setBindGroup(index: Int, bindGroup: BindGroup) {
         jsType.setBindGroup(index, bindGroup.jsType)
     }
+
+    actual fun setBindGroup(index: Int, bindGroup: BindGroup, dynamicOffsets: IntArray) {
+        jsType.setBindGroup(index, bindGroup.jsType, dynamicOffsets)
+    }
+
+    actual fun writeTimestamp(querySet: QuerySet, queryIndex: Int) {
+        jsType.writeTimestamp(querySet.jsType, queryIndex)
+    }
+
+    actual fun beginPipelineStatisticsQuery(querySet: QuerySet, queryIndex: Int) {
+        jsType.beginPipelineStatisticsQuery(querySet.jsType, queryIndex)
+    }
+
+    actual fun endPipelineStatisticsQuery() {
+        jsType.endPipelineStatisticsQuery()
+    }
+
+    actual fun beginOcclusionQuery(queryIndex: Int) {
+        jsType.beginOcclusionQuery(queryIndex)
+    }
+
+    actual fun endOcclusionQuery() {
+        jsType.endOcclusionQuery()
+    }
+
+    actual fun executeBundles(vararg bundles: RenderBundle) {
+        jsType.executeBundles(bundles.map { it.jsType }.toTypedArray())
+    }
 }
 
 external class GPURenderPassEncoder {
@@ -122,11 +198,116 @@ external class GPURenderPassEncoder {
 
     fun setIndexBuffer(buffer: GPUBuffer, format: String?, offset: Long, size: Long)
 
+    fun drawIndirect(indirectBuffer: GPUBuffer, indirectOffset: Long)
+
+    fun drawIndexedIndirect(indirectBuffer: GPUBuffer, indirectOffset: Long)
+
+    fun setBindGroup(index: Int, bindGroup: GPUBindGroup)
+
+    fun setBindGroup(index: Int, bindGroup: GPUBindGroup, dynamicOffsets: IntArray)
+
+    fun writeTimestamp(querySet: GPUQuerySet, queryIndex: Int)
+
+    fun beginPipelineStatisticsQuery(querySet: GPUQuerySet, queryIndex: Int)
+
+    fun endPipelineStatisticsQuery()
+
+    fun beginOcclusionQuery(queryIndex: Int)
+
+    fun endOcclusionQuery()
+
+    fun executeBundles(bundles: Array<GPURenderBundle>)
+}
+
+actual class RenderBundleEncoderDescriptor
+actual constructor(
+    vararg colorFormats: TextureFormat,
+    depthStencilFormat: TextureFormat?,
+    val sampleCount: Int
+) {
+    val colorFormats = colorFormats.map { it.jsType }.toTypedArray()
+    val depthStencilFormat = depthStencilFormat?.jsType ?: undefined
+}
+
+actual class RenderBundleEncoder(val jsType: GPURenderBundleEncoder) {
+    actual fun setPipeline(pipeline: RenderPipeline) {
+        jsType.setPipeline(pipeline)
+    }
+
+    actual fun setBindGroup(index: Int, bindGroup: BindGroup) {
+        jsType.setBindGroup(index, bindGroup.jsType)
+    }
+
+    actual fun setBindGroup(index: Int, bindGroup: BindGroup, dynamicOffsets: IntArray) {
+        jsType.setBindGroup(index, bindGroup.jsType, dynamicOffsets)
+    }
+
+    actual fun setVertexBuffer(slot: Long, buffer: Buffer, offset: Long, size: Long) {
+        jsType.setVertexBuffer(slot, buffer.jsType, offset, size)
+    }
+
+    actual fun setIndexBuffer(buffer: Buffer, indexFormat: IndexFormat, offset: Long, size: Long) {
+        jsType.setIndexBuffer(buffer.jsType, indexFormat.jsType, offset, size)
+    }
+
+    actual fun draw(vertexCount: Int, instanceCount: Int, firstVertex: Int, firstInstance: Int) {
+        jsType.draw(vertexCount, instanceCount, firstVertex, firstInstance)
+    }
+
+    actual fun drawIndexed(
+        indexCount: Int, instanceCount: Int, firstVertex: Int, baseVertex: Int, firstInstance: Int
+    ) {
+        jsType.drawIndexed(indexCount, instanceCount, firstVertex, baseVertex, firstInstance)
+    }
+
+    actual fun drawIndirect(indirectBuffer: Buffer, indirectOffset: Long) {
+        jsType.drawIndirect(indirectBuffer.jsType, indirectOffset)
+    }
+
+    actual fun drawIndexedIndirect(indirectBuffer: Buffer, indirectOffset: Long) {
+        jsType.drawIndexedIndirect(indirectBuffer.jsType, indirectOffset)
+    }
+
+    actual fun finish(): RenderBundle {
+        return RenderBundle(jsType.finish())
+    }
+}
+
+external class GPURenderBundleEncoder {
+    fun setPipeline(pipeline: RenderPipeline)
+
     fun setBindGroup(index: Int, bindGroup: GPUBindGroup)
+
+    fun setBindGroup(index: Int, bindGroup: GPUBindGroup, dynamicOffsets: IntArray)
+
+    fun setVertexBuffer(slot: Long, buffer: GPUBuffer, offset: Long, size: Long)
+
+    fun setIndexBuffer(buffer: GPUBuffer, format: String?, offset: Long, size: Long)
+
+    fun draw(vertexCount: Int, instanceCount: Int, firstVertex: Int, firstInstance: Int)
+
+    fun drawIndexed(
+        indexCount: Int, instanceCount: Int, firstVertex: Int, baseVertex: Int, firstInstance: Int
+    )
+
+    fun drawIndirect(indirectBuffer: GPUBuffer, indirectOffset: Long)
+
+    fun drawIndexedIndirect(indirectBuffer: GPUBuffer, indirectOffset: Long)
+
+    fun finish(): GPURenderBundle
 }
 
+actual class RenderBundle(val jsType: GPURenderBundle)
+
+external class GPURenderBundle
+
 actual class RenderPassDescriptor
-actual constructor(vararg val colorAttachments: RenderPassColorAttachmentDescriptor)
+actual constructor(
+    vararg val colorAttachments: RenderPassColorAttachmentDescriptor,
+    occlusionQuerySet: QuerySet?
+) {
+    val occlusionQuerySet = occlusionQuerySet?.jsType ?: undefined
+}
 
 actual class ComputePipeline
 
@@ -235,10 +416,30 @@ actual class ComputePassEncoder(val jsType: GPUComputePassEncoder) {
         jsType.setBindGroup(index, bindGroup.jsType)
     }
 
+    actual fun setBindGroup(index: Int, bindGroup: BindGroup, dynamicOffsets: IntArray) {
+        jsType.setBindGroup(index, bindGroup.jsType, dynamicOffsets)
+    }
+
     actual fun dispatch(x: Int, y: Int, z: Int) {
         jsType.dispatch(x, y, z)
     }
 
+    actual fun dispatchIndirect(indirectBuffer: Buffer, indirectOffset: Long) {
+        jsType.dispatchIndirect(indirectBuffer.jsType, indirectOffset)
+    }
+
+    actual fun writeTimestamp(querySet: QuerySet, queryIndex: Int) {
+        jsType.writeTimestamp(querySet.jsType, queryIndex)
+    }
+
+    actual fun beginPipelineStatisticsQuery(querySet: QuerySet, queryIndex: Int) {
+        jsType.beginPipelineStatisticsQuery(querySet.jsType, queryIndex)
+    }
+
+    actual fun endPipelineStatisticsQuery() {
+        jsType.endPipelineStatisticsQuery()
+    }
+
     actual fun endPass() {
         jsType.endPass()
     }
@@ -249,7 +450,17 @@ external class GPUComputePassEncoder {
 
     fun setBindGroup(index: Int, bindGroup: GPUBindGroup)
 
+    fun setBindGroup(index: Int, bindGroup: GPUBindGroup, dynamicOffsets: IntArray)
+
     fun dispatch(x: Int, y: Int, z: Int)
 
+    fun dispatchIndirect(indirectBuffer: GPUBuffer, indirectOffset: Long)
+
     fun endPass()
+
+    fun writeTimestamp(querySet: GPUQuerySet, queryIndex: Int)
+
+    fun beginPipelineStatisticsQuery(querySet: GPUQuerySet, queryIndex: Int)
+
+    fun endPipelineStatisticsQuery()
 }
\ No newline at end of file
@@ -181,6 +181,26 @@ actual enum class FrontFace(val jsType: String) {
     CW("cw"),
 }
 
+actual enum class QueryType(val jsType: String) {
+    OCCLUSION("occlusion"),
+    PIPELINE_STATISTICS("pipeline-statistics"),
+    TIMESTAMP("timestamp"),
+}
+
+actual enum class PipelineStatisticName(val jsType: String) {
+    VERTEX_SHADER_INVOCATIONS("vertex-shader-invocations"),
+    CLIPPER_INVOCATIONS("clipper-invocations"),
+    CLIPPER_PRIMITIVES_OUT("clipper-primitives-out"),
+    FRAGMENT_SHADER_INVOCATIONS("fragment-shader-invocations"),
+    COMPUTE_SHADER_INVOCATIONS("compute-shader-invocations"),
+}
+
+actual enum class PresentMode {
+    IMMEDIATE,
+    MAILBOX,
+    FIFO,
+}
+
 actual enum class CullMode(val jsType: String) {
     NONE("none"),
     FRONT("front"),
@@ -16,6 +16,15 @@ actual object Kgpu {
         jsWindow.requestAnimationFrame { runLoop(window, func) }
     }
 
+    actual fun runLoop(window: Window, queue: Queue, framesInFlight: Int, func: (frameIndex: Int) -> Unit) {
+        var frame = 0L
+
+        runLoop(window) {
+            func((frame % framesInFlight).toInt())
+            frame++
+        }
+    }
+
     actual suspend fun requestAdapterAsync(window: Window?): Adapter {
         return Adapter((js("navigator.gpu.requestAdapter()") as Promise<GPUAdapter>).await())
     }
@@ -60,6 +69,10 @@ actual class Device(val jsType: GPUDevice) {
         return jsType.createRenderPipeline(desc)
     }
 
+    actual suspend fun createRenderPipelineAsync(desc: RenderPipelineDescriptor): RenderPipeline {
+        return jsType.createRenderPipelineAsync(desc).await()
+    }
+
     actual fun createPipelineLayout(desc: PipelineLayoutDescriptor): PipelineLayout {
         return jsType.createPipelineLayout(desc)
     }
@@ -98,6 +111,18 @@ actual class Device(val jsType: GPUDevice) {
     actual fun createComputePipeline(desc: ComputePipelineDescriptor): ComputePipeline {
         return jsType.createComputePipeline(desc)
     }
+
+    actual suspend fun createComputePipelineAsync(desc: ComputePipelineDescriptor): ComputePipeline {
+        return jsType.createComputePipelineAsync(desc).await()
+    }
+
+    actual fun createQuerySet(desc: QuerySetDescriptor): QuerySet {
+        return QuerySet(jsType.createQuerySet(desc), desc.queryType, desc.count)
+    }
+
+    actual fun createRenderBundleEncoder(desc: RenderBundleEncoderDescriptor): RenderBundleEncoder {
+        return RenderBundleEncoder(jsType.createRenderBundleEncoder(desc))
+    }
 }
 
 external class GPUDevice {
@@ -111,6 +136,8 @@ external class GPUDevice {
 
     fun createRenderPipeline(desc: RenderPipelineDescriptor): RenderPipeline
 
+    fun createRenderPipelineAsync(desc: RenderPipelineDescriptor): Promise<RenderPipeline>
+
     fun createTexture(desc: TextureDescriptor): GPUTexture
 
     fun createCommandEncoder(): GPUCommandEncoder
@@ -124,6 +151,12 @@ external class GPUDevice {
     fun createSampler(desc: SamplerDescriptor): GPUSampler
 
     fun createComputePipeline(desc: ComputePipelineDescriptor): ComputePipeline
+
+    fun createComputePipelineAsync(desc: ComputePipelineDescriptor): Promise<ComputePipeline>
+
+    fun createQuerySet(desc: QuerySetDescriptor): GPUQuerySet
+
+    fun createRenderBundleEncoder(desc: RenderBundleEncoderDescriptor): GPURenderBundleEncoder
 }
 
 actual typealias ShaderModule = GPUShaderModule
@@ -198,21 +231,29 @@ actual class TextureView(val jsType: GPUTextureView) : IntoBindingResource {
 external class GPUTextureView
 
 actual class SwapChainDescriptor
-actual constructor(device: Device, format: TextureFormat, val usage: Long) {
+actual constructor(device: Device, format: TextureFormat, val usage: Long, val presentMode: PresentMode) {
     val device = device.jsType
     val format = format.jsType
 }
 
-actual class SwapChain(val jsType: GPUSwapChain) {
+actual class SwapChain(val jsType: GPUSwapChain, actual val requestedPresentMode: PresentMode) {
+
+    private var acquireTime = 0.0
+    actual var onPresent: (acquireToPresentNanos: Long) -> Unit = {}
 
     actual fun getCurrentTextureView(): TextureView {
+        acquireTime = jsWindow.performance.now()
         val texture = Texture(jsType.getCurrentTexture())
 
         return texture.createView(undefined)
     }
 
     actual fun present() {
-        // Not needed on WebGPU
+        // Presenting is not needed on WebGPU, the browser presents once the frame returns
+        if (acquireTime != 0.0) {
+            onPresent(((jsWindow.performance.now() - acquireTime) * 1_000_000).toLong())
+            acquireTime = 0.0
+        }
     }
 
     actual fun isOutOfDate(): Boolean {
@@ -230,6 +271,10 @@ actual class Queue(val jsType: GPUQueue) {
         jsType.submit(cmdBuffers.map { it.jsType }.toTypedArray())
     }
 
+    actual suspend fun onSubmittedWorkDone() {
+        jsType.onSubmittedWorkDone().await()
+    }
+
     actual fun writeBuffer(
         buffer: Buffer, data: ByteArray, offset: Long, dataOffset: Long, size: Long
     ) {
@@ -238,15 +283,54 @@ actual class Queue(val jsType: GPUQueue) {
 
         jsType.writeBuffer(buffer.jsType, offset, arrayBuffer, dataOffset, size)
     }
+
+    actual fun writeBuffer(
+        buffer: Buffer, data: FloatArray, offset: Long, dataOffset: Long, size: Long
+    ) {
+        jsType.writeBuffer(buffer.jsType, offset, data.unsafeCast<Float32Array>(), dataOffset, size)
+    }
+
+    actual fun writeBuffer(
+        buffer: Buffer, data: IntArray, offset: Long, dataOffset: Long, size: Long
+    ) {
+        jsType.writeBuffer(buffer.jsType, offset, data.unsafeCast<Int32Array>(), dataOffset, size)
+    }
+
+    actual fun writeTexture(
+        destination: TextureCopyView,
+        data: ByteArray,
+        bytesPerRow: Int,
+        size: Extent3D,
+        rowsPerImage: Int,
+        dataOffset: Long
+    ) {
+        val layout = Any().asDynamic()
+        layout.offset = dataOffset
+        layout.bytesPerRow = bytesPerRow
+        layout.rowsPerImage = if (rowsPerImage == 0) size.height else rowsPerImage
+
+        jsType.writeTexture(destination, data.unsafeCast<Int8Array>(), layout, size)
+    }
 }
 
 external class GPUQueue {
 
     fun submit(cmdBuffers: Array<GPUCommandBuffer>)
 
+    fun onSubmittedWorkDone(): Promise<dynamic>
+
     fun writeBuffer(
         buffer: GPUBuffer, offset: Long, data: ArrayBuffer, dataOffset: Long, size: Long
     )
+
+    /** For typed arrays, [dataOffset] and [size] are in elements instead of bytes */
+    fun writeBuffer(
+        buffer: GPUBuffer, offset: Long, data: ArrayBufferView, dataOffset: Long, size: Long
+    )
+
+    fun writeTexture(
+        destination: TextureCopyView, data: ArrayBufferView, dataLayout: dynamic, size: Extent3D
+    )
 }
 
 actual class BufferData(val data: Uint8Array) {
@@ -275,7 +359,7 @@ actual class BufferDescriptor actual constructor(
 actual class Buffer(val jsType: GPUBuffer, actual val size: Long) : IntoBindingResource {
 
     actual fun getMappedData(start: Long, size: Long): BufferData {
-        return BufferData(Uint8Array(jsType.getMappedRange()))
+        return BufferData(Uint8Array(jsType.getMappedRange(start, size)))
     }
 
     actual fun unmap() {
@@ -296,18 +380,25 @@ actual class Buffer(val jsType: GPUBuffer, actual val size: Long) : IntoBindingR
     }
 
     actual suspend fun mapReadAsync(device: Device): BufferData {
-        jsType.mapAsync(GPUMapMode.READ).await()
-        val data = jsType.getMappedRange()
+        return mapAsync(device, MapMode.READ)
+    }
+
+    actual suspend fun mapWriteAsync(device: Device): BufferData {
+        return mapAsync(device, MapMode.WRITE)
+    }
+
+    actual suspend fun mapAsync(device: Device, mode: Int, offset: Long, size: Long): BufferData {
+        jsType.mapAsync(mode, offset, size).await()
 
-        return BufferData(Uint8Array(data))
+        return BufferData(Uint8Array(jsType.getMappedRange(offset, size)))
     }
 }
 
 external class GPUBuffer {
 
-    fun mapAsync(mode: Long): Promise<dynamic>
+    fun mapAsync(mode: Int, offset: Long = definedExternally, size: Long = definedExternally): Promise<dynamic>
 
-    fun getMappedRange(): ArrayBuffer
+    fun getMappedRange(offset: Long = definedExternally, size: Long = definedExternally): ArrayBuffer
 
     fun unmap()
 
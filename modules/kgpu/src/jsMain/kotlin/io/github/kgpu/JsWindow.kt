@@ -100,7 +100,7 @@ actual class Window actual constructor() {
     }
 
     actual fun configureSwapChain(desc: SwapChainDescriptor): SwapChain {
-        return SwapChain(context.asDynamic().configureSwapChain(desc) as GPUSwapChain)
+        return SwapChain(context.asDynamic().configureSwapChain(desc) as GPUSwapChain, desc.presentMode)
     }
 
     actual fun getSwapChainPreferredFormat(adapter: Adapter) : TextureFormat {
@@ -14,8 +14,12 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.io.File;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import static jdk.incubator.foreign.CLinker.*;
@@ -25,6 +29,9 @@ final class RuntimeHelper {
     private final static CLinker LINKER = CLinker.getInstance();
     private final static ClassLoader LOADER = RuntimeHelper.class.getClassLoader();
     private final static MethodHandles.Lookup MH_LOOKUP = MethodHandles.lookup();
+    // Documented with the other kgpu.* properties in KgpuProperties, which these bindings cannot depend on
+    private final static boolean EAGER_LINKING = "eager".equalsIgnoreCase(System.getProperty("kgpu.linking"));
+    private final static Map<String, Long> LINK_TIMES = new ConcurrentHashMap<>();
 
     static <T> T requireNonNull(T obj, String msg) {
         if (obj == null) {
@@ -65,6 +72,50 @@ final class RuntimeHelper {
                 }).orElse(null);
     }
 
+    /**
+     * Links a downcall handle and records how long it took. The bindings call this from one holder
+     * class per symbol, so a handle is linked when its function is first called and is a constant
+     * from then on.
+     */
+    static final MethodHandle linkDowncall(LibraryLookup[] LIBRARIES, String name, String desc, FunctionDescriptor fdesc, boolean variadic) {
+        long start = System.nanoTime();
+        MethodHandle handle = downcallHandle(LIBRARIES, name, desc, fdesc, variadic);
+        LINK_TIMES.put(name, System.nanoTime() - start);
+        return handle;
+    }
+
+    static void linkIfEager(Class<?> constants) {
+        if (EAGER_LINKING) {
+            for (Class<?> holder : holders(constants)) {
+                initialize(holder);
+            }
+        }
+    }
+
+    /** Links every downcall of a constants class and the constants classes it extends */
+    static void linkAll(Class<?> constants) {
+        // The constants class is initialized before its holders, the same order as calling a
+        // function, so an eager link on another thread cannot deadlock with this one
+        initialize(constants);
+        for (Class<?> owner = constants; owner != Object.class; owner = owner.getSuperclass()) {
+            for (Class<?> holder : holders(owner)) {
+                initialize(holder);
+            }
+        }
+    }
+
+    static Map<String, Long> linkTimes() {
+        return Map.copyOf(LINK_TIMES);
+    }
+
+    static int downcallCount(Class<?> constants) {
+        int count = 0;
+        for (Class<?> owner = constants; owner != Object.class; owner = owner.getSuperclass()) {
+            count += holders(owner).size();
+        }
+        return count;
+    }
+
     static final <Z> MemorySegment upcallStub(Class<Z> fi, Z z, FunctionDescriptor fdesc, String mtypeDesc) {
         try {
             MethodHandle handle = MH_LOOKUP.findVirtual(fi, "apply",
@@ -89,6 +140,24 @@ final class RuntimeHelper {
         return seg.withAccessModes(seg.accessModes() &  ~MemorySegment.CLOSE);
     }
 
+    private static List<Class<?>> holders(Class<?> owner) {
+        List<Class<?>> holders = new ArrayList<>();
+        for (Class<?> nested : owner.getDeclaredClasses()) {
+            if (nested.getSimpleName().endsWith("$Holder")) {
+                holders.add(nested);
+            }
+        }
+        return holders;
+    }
+
+    private static void initialize(Class<?> type) {
+        try {
+            Class.forName(type.getName(), true, LOADER);
+        } catch (ClassNotFoundException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
     private static final Optional<LibraryLookup.Symbol> lookup(LibraryLookup[] LIBRARIES, String sym) {
         return Stream.of(LIBRARIES)
                 .flatMap(l -> l.lookup(sym).stream())
@@ -0,0 +1,55 @@
+package io.github.kgpu.wgpuj;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controls when the wgpu-native downcall handles are linked.
+ *
+ * <p>By default each handle is linked the first time its function is called, so touching one
+ * function no longer pays for linking the whole API. Every handle lives in its own holder class
+ * ({@code wgpuDeviceDrop$Holder.MH}), which the JVM initializes on first use, so a linked handle
+ * is a {@code static final} constant that the JIT can inline through. Setting the
+ * {@code kgpu.linking} system property to {@code eager} links every handle when the bindings are
+ * initialized instead.
+ * {@link #prelinkAsync()} can be used to link the remaining handles in the background once the
+ * native library has been loaded.
+ */
+public final class WgpuLinker {
+    private WgpuLinker() {}
+
+    /** Links every downcall handle on the calling thread */
+    public static void prelink() {
+        // wgpu_h_constants_1 is the last constants class, it extends the others
+        RuntimeHelper.linkAll(wgpu_h_constants_1.class);
+    }
+
+    /** Links every downcall handle on a background daemon thread */
+    public static Thread prelinkAsync() {
+        Thread thread = new Thread(WgpuLinker::prelink, "wgpuj-prelink");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    /** Returns how long each linked symbol took to link, in nanoseconds */
+    public static Map<String, Long> getLinkTimes() {
+        return RuntimeHelper.linkTimes();
+    }
+
+    /** Returns a human readable report of the link time of each symbol, slowest first */
+    public static String report() {
+        Map<String, Long> times = getLinkTimes();
+        long total = times.values().stream().mapToLong(Long::longValue).sum();
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("Linked %d of %d symbols in %.2f ms%n",
+                times.size(), RuntimeHelper.downcallCount(wgpu_h_constants_1.class), total / 1e6));
+
+        times.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(entry -> builder.append(String.format("  %-48s %8d us%n",
+                        entry.getKey(), TimeUnit.NANOSECONDS.toMicros(entry.getValue()))));
+
+        return builder.toString();
+    }
+}
@@ -53,46 +53,54 @@ class wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor __va_start$FUNC() { return __va_start$FUNC_; }
 
-    static final MethodHandle __va_start$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "__va_start",
-        "(Ljdk/incubator/foreign/MemoryAddress;[Ljava/lang/Object;)V",
-        __va_start$FUNC_, true
-    );
-    static final java.lang.invoke.MethodHandle __va_start$MH() { return __va_start$MH_; }
+    static final class __va_start$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "__va_start",
+            "(Ljdk/incubator/foreign/MemoryAddress;[Ljava/lang/Object;)V",
+            __va_start$FUNC_, true
+        );
+    }
+    static final java.lang.invoke.MethodHandle __va_start$MH() { return __va_start$Holder.MH; }
 
     static final FunctionDescriptor __security_init_cookie$FUNC_ = FunctionDescriptor.ofVoid();
     static final jdk.incubator.foreign.FunctionDescriptor __security_init_cookie$FUNC() { return __security_init_cookie$FUNC_; }
 
-    static final MethodHandle __security_init_cookie$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "__security_init_cookie",
-        "()V",
-        __security_init_cookie$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle __security_init_cookie$MH() { return __security_init_cookie$MH_; }
+    static final class __security_init_cookie$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "__security_init_cookie",
+            "()V",
+            __security_init_cookie$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle __security_init_cookie$MH() { return __security_init_cookie$Holder.MH; }
 
     static final FunctionDescriptor __security_check_cookie$FUNC_ = FunctionDescriptor.ofVoid(
         C_LONG_LONG
     );
     static final jdk.incubator.foreign.FunctionDescriptor __security_check_cookie$FUNC() { return __security_check_cookie$FUNC_; }
 
-    static final MethodHandle __security_check_cookie$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "__security_check_cookie",
-        "(J)V",
-        __security_check_cookie$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle __security_check_cookie$MH() { return __security_check_cookie$MH_; }
+    static final class __security_check_cookie$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "__security_check_cookie",
+            "(J)V",
+            __security_check_cookie$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle __security_check_cookie$MH() { return __security_check_cookie$Holder.MH; }
 
     static final FunctionDescriptor __report_gsfailure$FUNC_ = FunctionDescriptor.ofVoid(
         C_LONG_LONG
     );
     static final jdk.incubator.foreign.FunctionDescriptor __report_gsfailure$FUNC() { return __report_gsfailure$FUNC_; }
 
-    static final MethodHandle __report_gsfailure$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "__report_gsfailure",
-        "(J)V",
-        __report_gsfailure$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle __report_gsfailure$MH() { return __report_gsfailure$MH_; }
+    static final class __report_gsfailure$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "__report_gsfailure",
+            "(J)V",
+            __report_gsfailure$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle __report_gsfailure$MH() { return __report_gsfailure$Holder.MH; }
 
     static final MemoryLayout __security_cookie$LAYOUT_ = C_LONG_LONG;
     static final jdk.incubator.foreign.MemoryLayout __security_cookie$LAYOUT() { return __security_cookie$LAYOUT_; }
@@ -1782,5 +1790,5 @@ class wgpu_h_constants_0 {
     static final VarHandle WGPUSwapChainDescriptor$height$VH_ = WGPUSwapChainDescriptor$struct$LAYOUT_.varHandle(int.class, MemoryLayout.PathElement.groupElement("height"));
     static final java.lang.invoke.VarHandle WGPUSwapChainDescriptor$height$VH() { return WGPUSwapChainDescriptor$height$VH_; }
 
+    static { RuntimeHelper.linkIfEager(wgpu_h_constants_0.class); }
 }
-
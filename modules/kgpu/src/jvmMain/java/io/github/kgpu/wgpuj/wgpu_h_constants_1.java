@@ -1592,12 +1592,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuCreateInstance$FUNC() { return wgpuCreateInstance$FUNC_; }
 
-    static final MethodHandle wgpuCreateInstance$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuCreateInstance",
-        "(Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuCreateInstance$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuCreateInstance$MH() { return wgpuCreateInstance$MH_; }
+    static final class wgpuCreateInstance$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuCreateInstance",
+            "(Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuCreateInstance$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuCreateInstance$MH() { return wgpuCreateInstance$Holder.MH; }
 
     static final FunctionDescriptor wgpuGetProcAddress$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -1605,12 +1607,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuGetProcAddress$FUNC() { return wgpuGetProcAddress$FUNC_; }
 
-    static final MethodHandle wgpuGetProcAddress$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuGetProcAddress",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuGetProcAddress$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuGetProcAddress$MH() { return wgpuGetProcAddress$MH_; }
+    static final class wgpuGetProcAddress$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuGetProcAddress",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuGetProcAddress$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuGetProcAddress$MH() { return wgpuGetProcAddress$Holder.MH; }
 
     static final FunctionDescriptor wgpuAdapterGetProperties$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -1618,12 +1622,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuAdapterGetProperties$FUNC() { return wgpuAdapterGetProperties$FUNC_; }
 
-    static final MethodHandle wgpuAdapterGetProperties$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuAdapterGetProperties",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuAdapterGetProperties$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuAdapterGetProperties$MH() { return wgpuAdapterGetProperties$MH_; }
+    static final class wgpuAdapterGetProperties$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuAdapterGetProperties",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuAdapterGetProperties$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuAdapterGetProperties$MH() { return wgpuAdapterGetProperties$Holder.MH; }
 
     static final FunctionDescriptor wgpuAdapterRequestDevice$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -1633,24 +1639,28 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuAdapterRequestDevice$FUNC() { return wgpuAdapterRequestDevice$FUNC_; }
 
-    static final MethodHandle wgpuAdapterRequestDevice$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuAdapterRequestDevice",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuAdapterRequestDevice$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuAdapterRequestDevice$MH() { return wgpuAdapterRequestDevice$MH_; }
+    static final class wgpuAdapterRequestDevice$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuAdapterRequestDevice",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuAdapterRequestDevice$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuAdapterRequestDevice$MH() { return wgpuAdapterRequestDevice$Holder.MH; }
 
     static final FunctionDescriptor wgpuBufferDestroy$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuBufferDestroy$FUNC() { return wgpuBufferDestroy$FUNC_; }
 
-    static final MethodHandle wgpuBufferDestroy$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuBufferDestroy",
-        "(Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuBufferDestroy$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuBufferDestroy$MH() { return wgpuBufferDestroy$MH_; }
+    static final class wgpuBufferDestroy$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuBufferDestroy",
+            "(Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuBufferDestroy$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuBufferDestroy$MH() { return wgpuBufferDestroy$Holder.MH; }
 
     static final FunctionDescriptor wgpuBufferGetConstMappedRange$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -1659,12 +1669,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuBufferGetConstMappedRange$FUNC() { return wgpuBufferGetConstMappedRange$FUNC_; }
 
-    static final MethodHandle wgpuBufferGetConstMappedRange$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuBufferGetConstMappedRange",
-        "(Ljdk/incubator/foreign/MemoryAddress;JJ)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuBufferGetConstMappedRange$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuBufferGetConstMappedRange$MH() { return wgpuBufferGetConstMappedRange$MH_; }
+    static final class wgpuBufferGetConstMappedRange$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuBufferGetConstMappedRange",
+            "(Ljdk/incubator/foreign/MemoryAddress;JJ)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuBufferGetConstMappedRange$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuBufferGetConstMappedRange$MH() { return wgpuBufferGetConstMappedRange$Holder.MH; }
 
     static final FunctionDescriptor wgpuBufferGetMappedRange$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -1673,12 +1685,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuBufferGetMappedRange$FUNC() { return wgpuBufferGetMappedRange$FUNC_; }
 
-    static final MethodHandle wgpuBufferGetMappedRange$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuBufferGetMappedRange",
-        "(Ljdk/incubator/foreign/MemoryAddress;JJ)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuBufferGetMappedRange$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuBufferGetMappedRange$MH() { return wgpuBufferGetMappedRange$MH_; }
+    static final class wgpuBufferGetMappedRange$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuBufferGetMappedRange",
+            "(Ljdk/incubator/foreign/MemoryAddress;JJ)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuBufferGetMappedRange$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuBufferGetMappedRange$MH() { return wgpuBufferGetMappedRange$Holder.MH; }
 
     static final FunctionDescriptor wgpuBufferMapAsync$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -1690,24 +1704,28 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuBufferMapAsync$FUNC() { return wgpuBufferMapAsync$FUNC_; }
 
-    static final MethodHandle wgpuBufferMapAsync$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuBufferMapAsync",
-        "(Ljdk/incubator/foreign/MemoryAddress;IJJLjdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuBufferMapAsync$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuBufferMapAsync$MH() { return wgpuBufferMapAsync$MH_; }
+    static final class wgpuBufferMapAsync$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuBufferMapAsync",
+            "(Ljdk/incubator/foreign/MemoryAddress;IJJLjdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuBufferMapAsync$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuBufferMapAsync$MH() { return wgpuBufferMapAsync$Holder.MH; }
 
     static final FunctionDescriptor wgpuBufferUnmap$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuBufferUnmap$FUNC() { return wgpuBufferUnmap$FUNC_; }
 
-    static final MethodHandle wgpuBufferUnmap$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuBufferUnmap",
-        "(Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuBufferUnmap$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuBufferUnmap$MH() { return wgpuBufferUnmap$MH_; }
+    static final class wgpuBufferUnmap$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuBufferUnmap",
+            "(Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuBufferUnmap$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuBufferUnmap$MH() { return wgpuBufferUnmap$Holder.MH; }
 
     static final FunctionDescriptor wgpuCommandEncoderBeginComputePass$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -1715,12 +1733,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuCommandEncoderBeginComputePass$FUNC() { return wgpuCommandEncoderBeginComputePass$FUNC_; }
 
-    static final MethodHandle wgpuCommandEncoderBeginComputePass$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuCommandEncoderBeginComputePass",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuCommandEncoderBeginComputePass$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuCommandEncoderBeginComputePass$MH() { return wgpuCommandEncoderBeginComputePass$MH_; }
+    static final class wgpuCommandEncoderBeginComputePass$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuCommandEncoderBeginComputePass",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuCommandEncoderBeginComputePass$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuCommandEncoderBeginComputePass$MH() { return wgpuCommandEncoderBeginComputePass$Holder.MH; }
 
     static final FunctionDescriptor wgpuCommandEncoderBeginRenderPass$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -1728,12 +1748,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuCommandEncoderBeginRenderPass$FUNC() { return wgpuCommandEncoderBeginRenderPass$FUNC_; }
 
-    static final MethodHandle wgpuCommandEncoderBeginRenderPass$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuCommandEncoderBeginRenderPass",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuCommandEncoderBeginRenderPass$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuCommandEncoderBeginRenderPass$MH() { return wgpuCommandEncoderBeginRenderPass$MH_; }
+    static final class wgpuCommandEncoderBeginRenderPass$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuCommandEncoderBeginRenderPass",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuCommandEncoderBeginRenderPass$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuCommandEncoderBeginRenderPass$MH() { return wgpuCommandEncoderBeginRenderPass$Holder.MH; }
 
     static final FunctionDescriptor wgpuCommandEncoderCopyBufferToBuffer$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -1745,12 +1767,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuCommandEncoderCopyBufferToBuffer$FUNC() { return wgpuCommandEncoderCopyBufferToBuffer$FUNC_; }
 
-    static final MethodHandle wgpuCommandEncoderCopyBufferToBuffer$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuCommandEncoderCopyBufferToBuffer",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;JLjdk/incubator/foreign/MemoryAddress;JJ)V",
-        wgpuCommandEncoderCopyBufferToBuffer$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuCommandEncoderCopyBufferToBuffer$MH() { return wgpuCommandEncoderCopyBufferToBuffer$MH_; }
+    static final class wgpuCommandEncoderCopyBufferToBuffer$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuCommandEncoderCopyBufferToBuffer",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;JLjdk/incubator/foreign/MemoryAddress;JJ)V",
+            wgpuCommandEncoderCopyBufferToBuffer$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuCommandEncoderCopyBufferToBuffer$MH() { return wgpuCommandEncoderCopyBufferToBuffer$Holder.MH; }
 
     static final FunctionDescriptor wgpuCommandEncoderCopyBufferToTexture$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -1760,12 +1784,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuCommandEncoderCopyBufferToTexture$FUNC() { return wgpuCommandEncoderCopyBufferToTexture$FUNC_; }
 
-    static final MethodHandle wgpuCommandEncoderCopyBufferToTexture$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuCommandEncoderCopyBufferToTexture",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuCommandEncoderCopyBufferToTexture$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuCommandEncoderCopyBufferToTexture$MH() { return wgpuCommandEncoderCopyBufferToTexture$MH_; }
+    static final class wgpuCommandEncoderCopyBufferToTexture$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuCommandEncoderCopyBufferToTexture",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuCommandEncoderCopyBufferToTexture$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuCommandEncoderCopyBufferToTexture$MH() { return wgpuCommandEncoderCopyBufferToTexture$Holder.MH; }
 
     static final FunctionDescriptor wgpuCommandEncoderCopyTextureToBuffer$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -1775,12 +1801,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuCommandEncoderCopyTextureToBuffer$FUNC() { return wgpuCommandEncoderCopyTextureToBuffer$FUNC_; }
 
-    static final MethodHandle wgpuCommandEncoderCopyTextureToBuffer$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuCommandEncoderCopyTextureToBuffer",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuCommandEncoderCopyTextureToBuffer$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuCommandEncoderCopyTextureToBuffer$MH() { return wgpuCommandEncoderCopyTextureToBuffer$MH_; }
+    static final class wgpuCommandEncoderCopyTextureToBuffer$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuCommandEncoderCopyTextureToBuffer",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuCommandEncoderCopyTextureToBuffer$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuCommandEncoderCopyTextureToBuffer$MH() { return wgpuCommandEncoderCopyTextureToBuffer$Holder.MH; }
 
     static final FunctionDescriptor wgpuCommandEncoderCopyTextureToTexture$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -1790,12 +1818,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuCommandEncoderCopyTextureToTexture$FUNC() { return wgpuCommandEncoderCopyTextureToTexture$FUNC_; }
 
-    static final MethodHandle wgpuCommandEncoderCopyTextureToTexture$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuCommandEncoderCopyTextureToTexture",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuCommandEncoderCopyTextureToTexture$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuCommandEncoderCopyTextureToTexture$MH() { return wgpuCommandEncoderCopyTextureToTexture$MH_; }
+    static final class wgpuCommandEncoderCopyTextureToTexture$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuCommandEncoderCopyTextureToTexture",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuCommandEncoderCopyTextureToTexture$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuCommandEncoderCopyTextureToTexture$MH() { return wgpuCommandEncoderCopyTextureToTexture$Holder.MH; }
 
     static final FunctionDescriptor wgpuCommandEncoderFinish$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -1803,12 +1833,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuCommandEncoderFinish$FUNC() { return wgpuCommandEncoderFinish$FUNC_; }
 
-    static final MethodHandle wgpuCommandEncoderFinish$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuCommandEncoderFinish",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuCommandEncoderFinish$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuCommandEncoderFinish$MH() { return wgpuCommandEncoderFinish$MH_; }
+    static final class wgpuCommandEncoderFinish$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuCommandEncoderFinish",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuCommandEncoderFinish$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuCommandEncoderFinish$MH() { return wgpuCommandEncoderFinish$Holder.MH; }
 
     static final FunctionDescriptor wgpuCommandEncoderInsertDebugMarker$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -1816,24 +1848,28 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuCommandEncoderInsertDebugMarker$FUNC() { return wgpuCommandEncoderInsertDebugMarker$FUNC_; }
 
-    static final MethodHandle wgpuCommandEncoderInsertDebugMarker$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuCommandEncoderInsertDebugMarker",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuCommandEncoderInsertDebugMarker$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuCommandEncoderInsertDebugMarker$MH() { return wgpuCommandEncoderInsertDebugMarker$MH_; }
+    static final class wgpuCommandEncoderInsertDebugMarker$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuCommandEncoderInsertDebugMarker",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuCommandEncoderInsertDebugMarker$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuCommandEncoderInsertDebugMarker$MH() { return wgpuCommandEncoderInsertDebugMarker$Holder.MH; }
 
     static final FunctionDescriptor wgpuCommandEncoderPopDebugGroup$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuCommandEncoderPopDebugGroup$FUNC() { return wgpuCommandEncoderPopDebugGroup$FUNC_; }
 
-    static final MethodHandle wgpuCommandEncoderPopDebugGroup$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuCommandEncoderPopDebugGroup",
-        "(Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuCommandEncoderPopDebugGroup$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuCommandEncoderPopDebugGroup$MH() { return wgpuCommandEncoderPopDebugGroup$MH_; }
+    static final class wgpuCommandEncoderPopDebugGroup$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuCommandEncoderPopDebugGroup",
+            "(Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuCommandEncoderPopDebugGroup$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuCommandEncoderPopDebugGroup$MH() { return wgpuCommandEncoderPopDebugGroup$Holder.MH; }
 
     static final FunctionDescriptor wgpuCommandEncoderPushDebugGroup$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -1841,12 +1877,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuCommandEncoderPushDebugGroup$FUNC() { return wgpuCommandEncoderPushDebugGroup$FUNC_; }
 
-    static final MethodHandle wgpuCommandEncoderPushDebugGroup$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuCommandEncoderPushDebugGroup",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuCommandEncoderPushDebugGroup$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuCommandEncoderPushDebugGroup$MH() { return wgpuCommandEncoderPushDebugGroup$MH_; }
+    static final class wgpuCommandEncoderPushDebugGroup$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuCommandEncoderPushDebugGroup",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuCommandEncoderPushDebugGroup$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuCommandEncoderPushDebugGroup$MH() { return wgpuCommandEncoderPushDebugGroup$Holder.MH; }
 
     static final FunctionDescriptor wgpuCommandEncoderResolveQuerySet$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -1858,12 +1896,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuCommandEncoderResolveQuerySet$FUNC() { return wgpuCommandEncoderResolveQuerySet$FUNC_; }
 
-    static final MethodHandle wgpuCommandEncoderResolveQuerySet$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuCommandEncoderResolveQuerySet",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;IILjdk/incubator/foreign/MemoryAddress;J)V",
-        wgpuCommandEncoderResolveQuerySet$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuCommandEncoderResolveQuerySet$MH() { return wgpuCommandEncoderResolveQuerySet$MH_; }
+    static final class wgpuCommandEncoderResolveQuerySet$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuCommandEncoderResolveQuerySet",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;IILjdk/incubator/foreign/MemoryAddress;J)V",
+            wgpuCommandEncoderResolveQuerySet$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuCommandEncoderResolveQuerySet$MH() { return wgpuCommandEncoderResolveQuerySet$Holder.MH; }
 
     static final FunctionDescriptor wgpuCommandEncoderWriteTimestamp$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -1872,12 +1912,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuCommandEncoderWriteTimestamp$FUNC() { return wgpuCommandEncoderWriteTimestamp$FUNC_; }
 
-    static final MethodHandle wgpuCommandEncoderWriteTimestamp$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuCommandEncoderWriteTimestamp",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;I)V",
-        wgpuCommandEncoderWriteTimestamp$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuCommandEncoderWriteTimestamp$MH() { return wgpuCommandEncoderWriteTimestamp$MH_; }
+    static final class wgpuCommandEncoderWriteTimestamp$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuCommandEncoderWriteTimestamp",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;I)V",
+            wgpuCommandEncoderWriteTimestamp$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuCommandEncoderWriteTimestamp$MH() { return wgpuCommandEncoderWriteTimestamp$Holder.MH; }
 
     static final FunctionDescriptor wgpuComputePassEncoderBeginPipelineStatisticsQuery$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -1886,12 +1928,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuComputePassEncoderBeginPipelineStatisticsQuery$FUNC() { return wgpuComputePassEncoderBeginPipelineStatisticsQuery$FUNC_; }
 
-    static final MethodHandle wgpuComputePassEncoderBeginPipelineStatisticsQuery$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuComputePassEncoderBeginPipelineStatisticsQuery",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;I)V",
-        wgpuComputePassEncoderBeginPipelineStatisticsQuery$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderBeginPipelineStatisticsQuery$MH() { return wgpuComputePassEncoderBeginPipelineStatisticsQuery$MH_; }
+    static final class wgpuComputePassEncoderBeginPipelineStatisticsQuery$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuComputePassEncoderBeginPipelineStatisticsQuery",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;I)V",
+            wgpuComputePassEncoderBeginPipelineStatisticsQuery$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderBeginPipelineStatisticsQuery$MH() { return wgpuComputePassEncoderBeginPipelineStatisticsQuery$Holder.MH; }
 
     static final FunctionDescriptor wgpuComputePassEncoderDispatch$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -1901,12 +1945,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuComputePassEncoderDispatch$FUNC() { return wgpuComputePassEncoderDispatch$FUNC_; }
 
-    static final MethodHandle wgpuComputePassEncoderDispatch$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuComputePassEncoderDispatch",
-        "(Ljdk/incubator/foreign/MemoryAddress;III)V",
-        wgpuComputePassEncoderDispatch$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderDispatch$MH() { return wgpuComputePassEncoderDispatch$MH_; }
+    static final class wgpuComputePassEncoderDispatch$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuComputePassEncoderDispatch",
+            "(Ljdk/incubator/foreign/MemoryAddress;III)V",
+            wgpuComputePassEncoderDispatch$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderDispatch$MH() { return wgpuComputePassEncoderDispatch$Holder.MH; }
 
     static final FunctionDescriptor wgpuComputePassEncoderDispatchIndirect$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -1915,36 +1961,42 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuComputePassEncoderDispatchIndirect$FUNC() { return wgpuComputePassEncoderDispatchIndirect$FUNC_; }
 
-    static final MethodHandle wgpuComputePassEncoderDispatchIndirect$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuComputePassEncoderDispatchIndirect",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;J)V",
-        wgpuComputePassEncoderDispatchIndirect$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderDispatchIndirect$MH() { return wgpuComputePassEncoderDispatchIndirect$MH_; }
+    static final class wgpuComputePassEncoderDispatchIndirect$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuComputePassEncoderDispatchIndirect",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;J)V",
+            wgpuComputePassEncoderDispatchIndirect$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderDispatchIndirect$MH() { return wgpuComputePassEncoderDispatchIndirect$Holder.MH; }
 
     static final FunctionDescriptor wgpuComputePassEncoderEndPass$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuComputePassEncoderEndPass$FUNC() { return wgpuComputePassEncoderEndPass$FUNC_; }
 
-    static final MethodHandle wgpuComputePassEncoderEndPass$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuComputePassEncoderEndPass",
-        "(Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuComputePassEncoderEndPass$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderEndPass$MH() { return wgpuComputePassEncoderEndPass$MH_; }
+    static final class wgpuComputePassEncoderEndPass$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuComputePassEncoderEndPass",
+            "(Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuComputePassEncoderEndPass$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderEndPass$MH() { return wgpuComputePassEncoderEndPass$Holder.MH; }
 
     static final FunctionDescriptor wgpuComputePassEncoderEndPipelineStatisticsQuery$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuComputePassEncoderEndPipelineStatisticsQuery$FUNC() { return wgpuComputePassEncoderEndPipelineStatisticsQuery$FUNC_; }
 
-    static final MethodHandle wgpuComputePassEncoderEndPipelineStatisticsQuery$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuComputePassEncoderEndPipelineStatisticsQuery",
-        "(Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuComputePassEncoderEndPipelineStatisticsQuery$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderEndPipelineStatisticsQuery$MH() { return wgpuComputePassEncoderEndPipelineStatisticsQuery$MH_; }
+    static final class wgpuComputePassEncoderEndPipelineStatisticsQuery$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuComputePassEncoderEndPipelineStatisticsQuery",
+            "(Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuComputePassEncoderEndPipelineStatisticsQuery$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderEndPipelineStatisticsQuery$MH() { return wgpuComputePassEncoderEndPipelineStatisticsQuery$Holder.MH; }
 
     static final FunctionDescriptor wgpuComputePassEncoderInsertDebugMarker$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -1952,24 +2004,28 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuComputePassEncoderInsertDebugMarker$FUNC() { return wgpuComputePassEncoderInsertDebugMarker$FUNC_; }
 
-    static final MethodHandle wgpuComputePassEncoderInsertDebugMarker$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuComputePassEncoderInsertDebugMarker",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuComputePassEncoderInsertDebugMarker$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderInsertDebugMarker$MH() { return wgpuComputePassEncoderInsertDebugMarker$MH_; }
+    static final class wgpuComputePassEncoderInsertDebugMarker$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuComputePassEncoderInsertDebugMarker",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuComputePassEncoderInsertDebugMarker$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderInsertDebugMarker$MH() { return wgpuComputePassEncoderInsertDebugMarker$Holder.MH; }
 
     static final FunctionDescriptor wgpuComputePassEncoderPopDebugGroup$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuComputePassEncoderPopDebugGroup$FUNC() { return wgpuComputePassEncoderPopDebugGroup$FUNC_; }
 
-    static final MethodHandle wgpuComputePassEncoderPopDebugGroup$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuComputePassEncoderPopDebugGroup",
-        "(Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuComputePassEncoderPopDebugGroup$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderPopDebugGroup$MH() { return wgpuComputePassEncoderPopDebugGroup$MH_; }
+    static final class wgpuComputePassEncoderPopDebugGroup$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuComputePassEncoderPopDebugGroup",
+            "(Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuComputePassEncoderPopDebugGroup$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderPopDebugGroup$MH() { return wgpuComputePassEncoderPopDebugGroup$Holder.MH; }
 
     static final FunctionDescriptor wgpuComputePassEncoderPushDebugGroup$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -1977,12 +2033,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuComputePassEncoderPushDebugGroup$FUNC() { return wgpuComputePassEncoderPushDebugGroup$FUNC_; }
 
-    static final MethodHandle wgpuComputePassEncoderPushDebugGroup$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuComputePassEncoderPushDebugGroup",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuComputePassEncoderPushDebugGroup$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderPushDebugGroup$MH() { return wgpuComputePassEncoderPushDebugGroup$MH_; }
+    static final class wgpuComputePassEncoderPushDebugGroup$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuComputePassEncoderPushDebugGroup",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuComputePassEncoderPushDebugGroup$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderPushDebugGroup$MH() { return wgpuComputePassEncoderPushDebugGroup$Holder.MH; }
 
     static final FunctionDescriptor wgpuComputePassEncoderSetBindGroup$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -1993,12 +2051,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuComputePassEncoderSetBindGroup$FUNC() { return wgpuComputePassEncoderSetBindGroup$FUNC_; }
 
-    static final MethodHandle wgpuComputePassEncoderSetBindGroup$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuComputePassEncoderSetBindGroup",
-        "(Ljdk/incubator/foreign/MemoryAddress;ILjdk/incubator/foreign/MemoryAddress;ILjdk/incubator/foreign/MemoryAddress;)V",
-        wgpuComputePassEncoderSetBindGroup$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderSetBindGroup$MH() { return wgpuComputePassEncoderSetBindGroup$MH_; }
+    static final class wgpuComputePassEncoderSetBindGroup$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuComputePassEncoderSetBindGroup",
+            "(Ljdk/incubator/foreign/MemoryAddress;ILjdk/incubator/foreign/MemoryAddress;ILjdk/incubator/foreign/MemoryAddress;)V",
+            wgpuComputePassEncoderSetBindGroup$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderSetBindGroup$MH() { return wgpuComputePassEncoderSetBindGroup$Holder.MH; }
 
     static final FunctionDescriptor wgpuComputePassEncoderSetPipeline$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2006,12 +2066,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuComputePassEncoderSetPipeline$FUNC() { return wgpuComputePassEncoderSetPipeline$FUNC_; }
 
-    static final MethodHandle wgpuComputePassEncoderSetPipeline$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuComputePassEncoderSetPipeline",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuComputePassEncoderSetPipeline$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderSetPipeline$MH() { return wgpuComputePassEncoderSetPipeline$MH_; }
+    static final class wgpuComputePassEncoderSetPipeline$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuComputePassEncoderSetPipeline",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuComputePassEncoderSetPipeline$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderSetPipeline$MH() { return wgpuComputePassEncoderSetPipeline$Holder.MH; }
 
     static final FunctionDescriptor wgpuComputePassEncoderWriteTimestamp$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2020,12 +2082,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuComputePassEncoderWriteTimestamp$FUNC() { return wgpuComputePassEncoderWriteTimestamp$FUNC_; }
 
-    static final MethodHandle wgpuComputePassEncoderWriteTimestamp$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuComputePassEncoderWriteTimestamp",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;I)V",
-        wgpuComputePassEncoderWriteTimestamp$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderWriteTimestamp$MH() { return wgpuComputePassEncoderWriteTimestamp$MH_; }
+    static final class wgpuComputePassEncoderWriteTimestamp$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuComputePassEncoderWriteTimestamp",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;I)V",
+            wgpuComputePassEncoderWriteTimestamp$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuComputePassEncoderWriteTimestamp$MH() { return wgpuComputePassEncoderWriteTimestamp$Holder.MH; }
 
     static final FunctionDescriptor wgpuComputePipelineGetBindGroupLayout$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -2033,12 +2097,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuComputePipelineGetBindGroupLayout$FUNC() { return wgpuComputePipelineGetBindGroupLayout$FUNC_; }
 
-    static final MethodHandle wgpuComputePipelineGetBindGroupLayout$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuComputePipelineGetBindGroupLayout",
-        "(Ljdk/incubator/foreign/MemoryAddress;I)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuComputePipelineGetBindGroupLayout$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuComputePipelineGetBindGroupLayout$MH() { return wgpuComputePipelineGetBindGroupLayout$MH_; }
+    static final class wgpuComputePipelineGetBindGroupLayout$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuComputePipelineGetBindGroupLayout",
+            "(Ljdk/incubator/foreign/MemoryAddress;I)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuComputePipelineGetBindGroupLayout$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuComputePipelineGetBindGroupLayout$MH() { return wgpuComputePipelineGetBindGroupLayout$Holder.MH; }
 
     static final FunctionDescriptor wgpuDeviceCreateBindGroup$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -2046,12 +2112,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDeviceCreateBindGroup$FUNC() { return wgpuDeviceCreateBindGroup$FUNC_; }
 
-    static final MethodHandle wgpuDeviceCreateBindGroup$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDeviceCreateBindGroup",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuDeviceCreateBindGroup$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDeviceCreateBindGroup$MH() { return wgpuDeviceCreateBindGroup$MH_; }
+    static final class wgpuDeviceCreateBindGroup$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDeviceCreateBindGroup",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuDeviceCreateBindGroup$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDeviceCreateBindGroup$MH() { return wgpuDeviceCreateBindGroup$Holder.MH; }
 
     static final FunctionDescriptor wgpuDeviceCreateBindGroupLayout$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -2059,12 +2127,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDeviceCreateBindGroupLayout$FUNC() { return wgpuDeviceCreateBindGroupLayout$FUNC_; }
 
-    static final MethodHandle wgpuDeviceCreateBindGroupLayout$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDeviceCreateBindGroupLayout",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuDeviceCreateBindGroupLayout$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDeviceCreateBindGroupLayout$MH() { return wgpuDeviceCreateBindGroupLayout$MH_; }
+    static final class wgpuDeviceCreateBindGroupLayout$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDeviceCreateBindGroupLayout",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuDeviceCreateBindGroupLayout$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDeviceCreateBindGroupLayout$MH() { return wgpuDeviceCreateBindGroupLayout$Holder.MH; }
 
     static final FunctionDescriptor wgpuDeviceCreateBuffer$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -2072,12 +2142,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDeviceCreateBuffer$FUNC() { return wgpuDeviceCreateBuffer$FUNC_; }
 
-    static final MethodHandle wgpuDeviceCreateBuffer$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDeviceCreateBuffer",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuDeviceCreateBuffer$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDeviceCreateBuffer$MH() { return wgpuDeviceCreateBuffer$MH_; }
+    static final class wgpuDeviceCreateBuffer$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDeviceCreateBuffer",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuDeviceCreateBuffer$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDeviceCreateBuffer$MH() { return wgpuDeviceCreateBuffer$Holder.MH; }
 
     static final FunctionDescriptor wgpuDeviceCreateCommandEncoder$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -2085,12 +2157,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDeviceCreateCommandEncoder$FUNC() { return wgpuDeviceCreateCommandEncoder$FUNC_; }
 
-    static final MethodHandle wgpuDeviceCreateCommandEncoder$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDeviceCreateCommandEncoder",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuDeviceCreateCommandEncoder$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDeviceCreateCommandEncoder$MH() { return wgpuDeviceCreateCommandEncoder$MH_; }
+    static final class wgpuDeviceCreateCommandEncoder$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDeviceCreateCommandEncoder",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuDeviceCreateCommandEncoder$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDeviceCreateCommandEncoder$MH() { return wgpuDeviceCreateCommandEncoder$Holder.MH; }
 
     static final FunctionDescriptor wgpuDeviceCreateComputePipeline$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -2098,12 +2172,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDeviceCreateComputePipeline$FUNC() { return wgpuDeviceCreateComputePipeline$FUNC_; }
 
-    static final MethodHandle wgpuDeviceCreateComputePipeline$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDeviceCreateComputePipeline",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuDeviceCreateComputePipeline$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDeviceCreateComputePipeline$MH() { return wgpuDeviceCreateComputePipeline$MH_; }
+    static final class wgpuDeviceCreateComputePipeline$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDeviceCreateComputePipeline",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuDeviceCreateComputePipeline$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDeviceCreateComputePipeline$MH() { return wgpuDeviceCreateComputePipeline$Holder.MH; }
 
     static final FunctionDescriptor wgpuDeviceCreateComputePipelineAsync$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2113,12 +2189,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDeviceCreateComputePipelineAsync$FUNC() { return wgpuDeviceCreateComputePipelineAsync$FUNC_; }
 
-    static final MethodHandle wgpuDeviceCreateComputePipelineAsync$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDeviceCreateComputePipelineAsync",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuDeviceCreateComputePipelineAsync$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDeviceCreateComputePipelineAsync$MH() { return wgpuDeviceCreateComputePipelineAsync$MH_; }
+    static final class wgpuDeviceCreateComputePipelineAsync$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDeviceCreateComputePipelineAsync",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuDeviceCreateComputePipelineAsync$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDeviceCreateComputePipelineAsync$MH() { return wgpuDeviceCreateComputePipelineAsync$Holder.MH; }
 
     static final FunctionDescriptor wgpuDeviceCreatePipelineLayout$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -2126,12 +2204,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDeviceCreatePipelineLayout$FUNC() { return wgpuDeviceCreatePipelineLayout$FUNC_; }
 
-    static final MethodHandle wgpuDeviceCreatePipelineLayout$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDeviceCreatePipelineLayout",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuDeviceCreatePipelineLayout$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDeviceCreatePipelineLayout$MH() { return wgpuDeviceCreatePipelineLayout$MH_; }
+    static final class wgpuDeviceCreatePipelineLayout$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDeviceCreatePipelineLayout",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuDeviceCreatePipelineLayout$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDeviceCreatePipelineLayout$MH() { return wgpuDeviceCreatePipelineLayout$Holder.MH; }
 
     static final FunctionDescriptor wgpuDeviceCreateQuerySet$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -2139,12 +2219,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDeviceCreateQuerySet$FUNC() { return wgpuDeviceCreateQuerySet$FUNC_; }
 
-    static final MethodHandle wgpuDeviceCreateQuerySet$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDeviceCreateQuerySet",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuDeviceCreateQuerySet$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDeviceCreateQuerySet$MH() { return wgpuDeviceCreateQuerySet$MH_; }
+    static final class wgpuDeviceCreateQuerySet$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDeviceCreateQuerySet",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuDeviceCreateQuerySet$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDeviceCreateQuerySet$MH() { return wgpuDeviceCreateQuerySet$Holder.MH; }
 
     static final FunctionDescriptor wgpuDeviceCreateRenderBundleEncoder$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -2152,12 +2234,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDeviceCreateRenderBundleEncoder$FUNC() { return wgpuDeviceCreateRenderBundleEncoder$FUNC_; }
 
-    static final MethodHandle wgpuDeviceCreateRenderBundleEncoder$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDeviceCreateRenderBundleEncoder",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuDeviceCreateRenderBundleEncoder$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDeviceCreateRenderBundleEncoder$MH() { return wgpuDeviceCreateRenderBundleEncoder$MH_; }
+    static final class wgpuDeviceCreateRenderBundleEncoder$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDeviceCreateRenderBundleEncoder",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuDeviceCreateRenderBundleEncoder$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDeviceCreateRenderBundleEncoder$MH() { return wgpuDeviceCreateRenderBundleEncoder$Holder.MH; }
 
     static final FunctionDescriptor wgpuDeviceCreateRenderPipeline$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -2165,12 +2249,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDeviceCreateRenderPipeline$FUNC() { return wgpuDeviceCreateRenderPipeline$FUNC_; }
 
-    static final MethodHandle wgpuDeviceCreateRenderPipeline$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDeviceCreateRenderPipeline",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuDeviceCreateRenderPipeline$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDeviceCreateRenderPipeline$MH() { return wgpuDeviceCreateRenderPipeline$MH_; }
+    static final class wgpuDeviceCreateRenderPipeline$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDeviceCreateRenderPipeline",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuDeviceCreateRenderPipeline$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDeviceCreateRenderPipeline$MH() { return wgpuDeviceCreateRenderPipeline$Holder.MH; }
 
     static final FunctionDescriptor wgpuDeviceCreateRenderPipelineAsync$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2180,12 +2266,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDeviceCreateRenderPipelineAsync$FUNC() { return wgpuDeviceCreateRenderPipelineAsync$FUNC_; }
 
-    static final MethodHandle wgpuDeviceCreateRenderPipelineAsync$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDeviceCreateRenderPipelineAsync",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuDeviceCreateRenderPipelineAsync$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDeviceCreateRenderPipelineAsync$MH() { return wgpuDeviceCreateRenderPipelineAsync$MH_; }
+    static final class wgpuDeviceCreateRenderPipelineAsync$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDeviceCreateRenderPipelineAsync",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuDeviceCreateRenderPipelineAsync$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDeviceCreateRenderPipelineAsync$MH() { return wgpuDeviceCreateRenderPipelineAsync$Holder.MH; }
 
     static final FunctionDescriptor wgpuDeviceCreateSampler$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -2193,12 +2281,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDeviceCreateSampler$FUNC() { return wgpuDeviceCreateSampler$FUNC_; }
 
-    static final MethodHandle wgpuDeviceCreateSampler$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDeviceCreateSampler",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuDeviceCreateSampler$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDeviceCreateSampler$MH() { return wgpuDeviceCreateSampler$MH_; }
+    static final class wgpuDeviceCreateSampler$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDeviceCreateSampler",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuDeviceCreateSampler$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDeviceCreateSampler$MH() { return wgpuDeviceCreateSampler$Holder.MH; }
 
     static final FunctionDescriptor wgpuDeviceCreateShaderModule$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -2206,12 +2296,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDeviceCreateShaderModule$FUNC() { return wgpuDeviceCreateShaderModule$FUNC_; }
 
-    static final MethodHandle wgpuDeviceCreateShaderModule$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDeviceCreateShaderModule",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuDeviceCreateShaderModule$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDeviceCreateShaderModule$MH() { return wgpuDeviceCreateShaderModule$MH_; }
+    static final class wgpuDeviceCreateShaderModule$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDeviceCreateShaderModule",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuDeviceCreateShaderModule$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDeviceCreateShaderModule$MH() { return wgpuDeviceCreateShaderModule$Holder.MH; }
 
     static final FunctionDescriptor wgpuDeviceCreateSwapChain$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -2220,12 +2312,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDeviceCreateSwapChain$FUNC() { return wgpuDeviceCreateSwapChain$FUNC_; }
 
-    static final MethodHandle wgpuDeviceCreateSwapChain$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDeviceCreateSwapChain",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuDeviceCreateSwapChain$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDeviceCreateSwapChain$MH() { return wgpuDeviceCreateSwapChain$MH_; }
+    static final class wgpuDeviceCreateSwapChain$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDeviceCreateSwapChain",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuDeviceCreateSwapChain$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDeviceCreateSwapChain$MH() { return wgpuDeviceCreateSwapChain$Holder.MH; }
 
     static final FunctionDescriptor wgpuDeviceCreateTexture$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -2233,24 +2327,28 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDeviceCreateTexture$FUNC() { return wgpuDeviceCreateTexture$FUNC_; }
 
-    static final MethodHandle wgpuDeviceCreateTexture$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDeviceCreateTexture",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuDeviceCreateTexture$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDeviceCreateTexture$MH() { return wgpuDeviceCreateTexture$MH_; }
+    static final class wgpuDeviceCreateTexture$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDeviceCreateTexture",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuDeviceCreateTexture$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDeviceCreateTexture$MH() { return wgpuDeviceCreateTexture$Holder.MH; }
 
     static final FunctionDescriptor wgpuDeviceGetQueue$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDeviceGetQueue$FUNC() { return wgpuDeviceGetQueue$FUNC_; }
 
-    static final MethodHandle wgpuDeviceGetQueue$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDeviceGetQueue",
-        "(Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuDeviceGetQueue$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDeviceGetQueue$MH() { return wgpuDeviceGetQueue$MH_; }
+    static final class wgpuDeviceGetQueue$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDeviceGetQueue",
+            "(Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuDeviceGetQueue$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDeviceGetQueue$MH() { return wgpuDeviceGetQueue$Holder.MH; }
 
     static final FunctionDescriptor wgpuDevicePopErrorScope$FUNC_ = FunctionDescriptor.of(C_CHAR,
         C_POINTER,
@@ -2259,12 +2357,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDevicePopErrorScope$FUNC() { return wgpuDevicePopErrorScope$FUNC_; }
 
-    static final MethodHandle wgpuDevicePopErrorScope$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDevicePopErrorScope",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)B",
-        wgpuDevicePopErrorScope$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDevicePopErrorScope$MH() { return wgpuDevicePopErrorScope$MH_; }
+    static final class wgpuDevicePopErrorScope$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDevicePopErrorScope",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)B",
+            wgpuDevicePopErrorScope$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDevicePopErrorScope$MH() { return wgpuDevicePopErrorScope$Holder.MH; }
 
     static final FunctionDescriptor wgpuDevicePushErrorScope$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2272,12 +2372,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDevicePushErrorScope$FUNC() { return wgpuDevicePushErrorScope$FUNC_; }
 
-    static final MethodHandle wgpuDevicePushErrorScope$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDevicePushErrorScope",
-        "(Ljdk/incubator/foreign/MemoryAddress;I)V",
-        wgpuDevicePushErrorScope$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDevicePushErrorScope$MH() { return wgpuDevicePushErrorScope$MH_; }
+    static final class wgpuDevicePushErrorScope$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDevicePushErrorScope",
+            "(Ljdk/incubator/foreign/MemoryAddress;I)V",
+            wgpuDevicePushErrorScope$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDevicePushErrorScope$MH() { return wgpuDevicePushErrorScope$Holder.MH; }
 
     static final FunctionDescriptor wgpuDeviceSetDeviceLostCallback$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2286,12 +2388,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDeviceSetDeviceLostCallback$FUNC() { return wgpuDeviceSetDeviceLostCallback$FUNC_; }
 
-    static final MethodHandle wgpuDeviceSetDeviceLostCallback$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDeviceSetDeviceLostCallback",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuDeviceSetDeviceLostCallback$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDeviceSetDeviceLostCallback$MH() { return wgpuDeviceSetDeviceLostCallback$MH_; }
+    static final class wgpuDeviceSetDeviceLostCallback$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDeviceSetDeviceLostCallback",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuDeviceSetDeviceLostCallback$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDeviceSetDeviceLostCallback$MH() { return wgpuDeviceSetDeviceLostCallback$Holder.MH; }
 
     static final FunctionDescriptor wgpuDeviceSetUncapturedErrorCallback$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2300,12 +2404,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDeviceSetUncapturedErrorCallback$FUNC() { return wgpuDeviceSetUncapturedErrorCallback$FUNC_; }
 
-    static final MethodHandle wgpuDeviceSetUncapturedErrorCallback$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDeviceSetUncapturedErrorCallback",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuDeviceSetUncapturedErrorCallback$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDeviceSetUncapturedErrorCallback$MH() { return wgpuDeviceSetUncapturedErrorCallback$MH_; }
+    static final class wgpuDeviceSetUncapturedErrorCallback$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDeviceSetUncapturedErrorCallback",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuDeviceSetUncapturedErrorCallback$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDeviceSetUncapturedErrorCallback$MH() { return wgpuDeviceSetUncapturedErrorCallback$Holder.MH; }
 
     static final FunctionDescriptor wgpuInstanceCreateSurface$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -2313,24 +2419,28 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuInstanceCreateSurface$FUNC() { return wgpuInstanceCreateSurface$FUNC_; }
 
-    static final MethodHandle wgpuInstanceCreateSurface$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuInstanceCreateSurface",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuInstanceCreateSurface$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuInstanceCreateSurface$MH() { return wgpuInstanceCreateSurface$MH_; }
+    static final class wgpuInstanceCreateSurface$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuInstanceCreateSurface",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuInstanceCreateSurface$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuInstanceCreateSurface$MH() { return wgpuInstanceCreateSurface$Holder.MH; }
 
     static final FunctionDescriptor wgpuInstanceProcessEvents$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuInstanceProcessEvents$FUNC() { return wgpuInstanceProcessEvents$FUNC_; }
 
-    static final MethodHandle wgpuInstanceProcessEvents$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuInstanceProcessEvents",
-        "(Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuInstanceProcessEvents$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuInstanceProcessEvents$MH() { return wgpuInstanceProcessEvents$MH_; }
+    static final class wgpuInstanceProcessEvents$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuInstanceProcessEvents",
+            "(Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuInstanceProcessEvents$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuInstanceProcessEvents$MH() { return wgpuInstanceProcessEvents$Holder.MH; }
 
     static final FunctionDescriptor wgpuInstanceRequestAdapter$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2340,24 +2450,28 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuInstanceRequestAdapter$FUNC() { return wgpuInstanceRequestAdapter$FUNC_; }
 
-    static final MethodHandle wgpuInstanceRequestAdapter$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuInstanceRequestAdapter",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuInstanceRequestAdapter$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuInstanceRequestAdapter$MH() { return wgpuInstanceRequestAdapter$MH_; }
+    static final class wgpuInstanceRequestAdapter$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuInstanceRequestAdapter",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuInstanceRequestAdapter$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuInstanceRequestAdapter$MH() { return wgpuInstanceRequestAdapter$Holder.MH; }
 
     static final FunctionDescriptor wgpuQuerySetDestroy$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuQuerySetDestroy$FUNC() { return wgpuQuerySetDestroy$FUNC_; }
 
-    static final MethodHandle wgpuQuerySetDestroy$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuQuerySetDestroy",
-        "(Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuQuerySetDestroy$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuQuerySetDestroy$MH() { return wgpuQuerySetDestroy$MH_; }
+    static final class wgpuQuerySetDestroy$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuQuerySetDestroy",
+            "(Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuQuerySetDestroy$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuQuerySetDestroy$MH() { return wgpuQuerySetDestroy$Holder.MH; }
 
     static final FunctionDescriptor wgpuQueueOnSubmittedWorkDone$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2367,12 +2481,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuQueueOnSubmittedWorkDone$FUNC() { return wgpuQueueOnSubmittedWorkDone$FUNC_; }
 
-    static final MethodHandle wgpuQueueOnSubmittedWorkDone$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuQueueOnSubmittedWorkDone",
-        "(Ljdk/incubator/foreign/MemoryAddress;JLjdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuQueueOnSubmittedWorkDone$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuQueueOnSubmittedWorkDone$MH() { return wgpuQueueOnSubmittedWorkDone$MH_; }
+    static final class wgpuQueueOnSubmittedWorkDone$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuQueueOnSubmittedWorkDone",
+            "(Ljdk/incubator/foreign/MemoryAddress;JLjdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuQueueOnSubmittedWorkDone$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuQueueOnSubmittedWorkDone$MH() { return wgpuQueueOnSubmittedWorkDone$Holder.MH; }
 
     static final FunctionDescriptor wgpuQueueSubmit$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2381,12 +2497,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuQueueSubmit$FUNC() { return wgpuQueueSubmit$FUNC_; }
 
-    static final MethodHandle wgpuQueueSubmit$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuQueueSubmit",
-        "(Ljdk/incubator/foreign/MemoryAddress;ILjdk/incubator/foreign/MemoryAddress;)V",
-        wgpuQueueSubmit$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuQueueSubmit$MH() { return wgpuQueueSubmit$MH_; }
+    static final class wgpuQueueSubmit$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuQueueSubmit",
+            "(Ljdk/incubator/foreign/MemoryAddress;ILjdk/incubator/foreign/MemoryAddress;)V",
+            wgpuQueueSubmit$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuQueueSubmit$MH() { return wgpuQueueSubmit$Holder.MH; }
 
     static final FunctionDescriptor wgpuQueueWriteBuffer$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2397,12 +2515,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuQueueWriteBuffer$FUNC() { return wgpuQueueWriteBuffer$FUNC_; }
 
-    static final MethodHandle wgpuQueueWriteBuffer$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuQueueWriteBuffer",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;JLjdk/incubator/foreign/MemoryAddress;J)V",
-        wgpuQueueWriteBuffer$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuQueueWriteBuffer$MH() { return wgpuQueueWriteBuffer$MH_; }
+    static final class wgpuQueueWriteBuffer$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuQueueWriteBuffer",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;JLjdk/incubator/foreign/MemoryAddress;J)V",
+            wgpuQueueWriteBuffer$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuQueueWriteBuffer$MH() { return wgpuQueueWriteBuffer$Holder.MH; }
 
     static final FunctionDescriptor wgpuQueueWriteTexture$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2414,12 +2534,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuQueueWriteTexture$FUNC() { return wgpuQueueWriteTexture$FUNC_; }
 
-    static final MethodHandle wgpuQueueWriteTexture$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuQueueWriteTexture",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;JLjdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuQueueWriteTexture$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuQueueWriteTexture$MH() { return wgpuQueueWriteTexture$MH_; }
+    static final class wgpuQueueWriteTexture$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuQueueWriteTexture",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;JLjdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuQueueWriteTexture$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuQueueWriteTexture$MH() { return wgpuQueueWriteTexture$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderBundleEncoderDraw$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2430,12 +2552,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderBundleEncoderDraw$FUNC() { return wgpuRenderBundleEncoderDraw$FUNC_; }
 
-    static final MethodHandle wgpuRenderBundleEncoderDraw$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderBundleEncoderDraw",
-        "(Ljdk/incubator/foreign/MemoryAddress;IIII)V",
-        wgpuRenderBundleEncoderDraw$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderDraw$MH() { return wgpuRenderBundleEncoderDraw$MH_; }
+    static final class wgpuRenderBundleEncoderDraw$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderBundleEncoderDraw",
+            "(Ljdk/incubator/foreign/MemoryAddress;IIII)V",
+            wgpuRenderBundleEncoderDraw$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderDraw$MH() { return wgpuRenderBundleEncoderDraw$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderBundleEncoderDrawIndexed$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2447,12 +2571,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderBundleEncoderDrawIndexed$FUNC() { return wgpuRenderBundleEncoderDrawIndexed$FUNC_; }
 
-    static final MethodHandle wgpuRenderBundleEncoderDrawIndexed$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderBundleEncoderDrawIndexed",
-        "(Ljdk/incubator/foreign/MemoryAddress;IIIII)V",
-        wgpuRenderBundleEncoderDrawIndexed$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderDrawIndexed$MH() { return wgpuRenderBundleEncoderDrawIndexed$MH_; }
+    static final class wgpuRenderBundleEncoderDrawIndexed$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderBundleEncoderDrawIndexed",
+            "(Ljdk/incubator/foreign/MemoryAddress;IIIII)V",
+            wgpuRenderBundleEncoderDrawIndexed$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderDrawIndexed$MH() { return wgpuRenderBundleEncoderDrawIndexed$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderBundleEncoderDrawIndexedIndirect$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2461,12 +2587,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderBundleEncoderDrawIndexedIndirect$FUNC() { return wgpuRenderBundleEncoderDrawIndexedIndirect$FUNC_; }
 
-    static final MethodHandle wgpuRenderBundleEncoderDrawIndexedIndirect$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderBundleEncoderDrawIndexedIndirect",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;J)V",
-        wgpuRenderBundleEncoderDrawIndexedIndirect$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderDrawIndexedIndirect$MH() { return wgpuRenderBundleEncoderDrawIndexedIndirect$MH_; }
+    static final class wgpuRenderBundleEncoderDrawIndexedIndirect$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderBundleEncoderDrawIndexedIndirect",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;J)V",
+            wgpuRenderBundleEncoderDrawIndexedIndirect$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderDrawIndexedIndirect$MH() { return wgpuRenderBundleEncoderDrawIndexedIndirect$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderBundleEncoderDrawIndirect$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2475,12 +2603,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderBundleEncoderDrawIndirect$FUNC() { return wgpuRenderBundleEncoderDrawIndirect$FUNC_; }
 
-    static final MethodHandle wgpuRenderBundleEncoderDrawIndirect$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderBundleEncoderDrawIndirect",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;J)V",
-        wgpuRenderBundleEncoderDrawIndirect$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderDrawIndirect$MH() { return wgpuRenderBundleEncoderDrawIndirect$MH_; }
+    static final class wgpuRenderBundleEncoderDrawIndirect$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderBundleEncoderDrawIndirect",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;J)V",
+            wgpuRenderBundleEncoderDrawIndirect$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderDrawIndirect$MH() { return wgpuRenderBundleEncoderDrawIndirect$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderBundleEncoderFinish$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -2488,12 +2618,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderBundleEncoderFinish$FUNC() { return wgpuRenderBundleEncoderFinish$FUNC_; }
 
-    static final MethodHandle wgpuRenderBundleEncoderFinish$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderBundleEncoderFinish",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuRenderBundleEncoderFinish$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderFinish$MH() { return wgpuRenderBundleEncoderFinish$MH_; }
+    static final class wgpuRenderBundleEncoderFinish$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderBundleEncoderFinish",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuRenderBundleEncoderFinish$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderFinish$MH() { return wgpuRenderBundleEncoderFinish$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderBundleEncoderInsertDebugMarker$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2501,24 +2633,28 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderBundleEncoderInsertDebugMarker$FUNC() { return wgpuRenderBundleEncoderInsertDebugMarker$FUNC_; }
 
-    static final MethodHandle wgpuRenderBundleEncoderInsertDebugMarker$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderBundleEncoderInsertDebugMarker",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuRenderBundleEncoderInsertDebugMarker$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderInsertDebugMarker$MH() { return wgpuRenderBundleEncoderInsertDebugMarker$MH_; }
+    static final class wgpuRenderBundleEncoderInsertDebugMarker$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderBundleEncoderInsertDebugMarker",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuRenderBundleEncoderInsertDebugMarker$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderInsertDebugMarker$MH() { return wgpuRenderBundleEncoderInsertDebugMarker$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderBundleEncoderPopDebugGroup$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderBundleEncoderPopDebugGroup$FUNC() { return wgpuRenderBundleEncoderPopDebugGroup$FUNC_; }
 
-    static final MethodHandle wgpuRenderBundleEncoderPopDebugGroup$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderBundleEncoderPopDebugGroup",
-        "(Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuRenderBundleEncoderPopDebugGroup$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderPopDebugGroup$MH() { return wgpuRenderBundleEncoderPopDebugGroup$MH_; }
+    static final class wgpuRenderBundleEncoderPopDebugGroup$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderBundleEncoderPopDebugGroup",
+            "(Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuRenderBundleEncoderPopDebugGroup$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderPopDebugGroup$MH() { return wgpuRenderBundleEncoderPopDebugGroup$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderBundleEncoderPushDebugGroup$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2526,12 +2662,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderBundleEncoderPushDebugGroup$FUNC() { return wgpuRenderBundleEncoderPushDebugGroup$FUNC_; }
 
-    static final MethodHandle wgpuRenderBundleEncoderPushDebugGroup$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderBundleEncoderPushDebugGroup",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuRenderBundleEncoderPushDebugGroup$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderPushDebugGroup$MH() { return wgpuRenderBundleEncoderPushDebugGroup$MH_; }
+    static final class wgpuRenderBundleEncoderPushDebugGroup$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderBundleEncoderPushDebugGroup",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuRenderBundleEncoderPushDebugGroup$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderPushDebugGroup$MH() { return wgpuRenderBundleEncoderPushDebugGroup$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderBundleEncoderSetBindGroup$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2542,12 +2680,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderBundleEncoderSetBindGroup$FUNC() { return wgpuRenderBundleEncoderSetBindGroup$FUNC_; }
 
-    static final MethodHandle wgpuRenderBundleEncoderSetBindGroup$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderBundleEncoderSetBindGroup",
-        "(Ljdk/incubator/foreign/MemoryAddress;ILjdk/incubator/foreign/MemoryAddress;ILjdk/incubator/foreign/MemoryAddress;)V",
-        wgpuRenderBundleEncoderSetBindGroup$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderSetBindGroup$MH() { return wgpuRenderBundleEncoderSetBindGroup$MH_; }
+    static final class wgpuRenderBundleEncoderSetBindGroup$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderBundleEncoderSetBindGroup",
+            "(Ljdk/incubator/foreign/MemoryAddress;ILjdk/incubator/foreign/MemoryAddress;ILjdk/incubator/foreign/MemoryAddress;)V",
+            wgpuRenderBundleEncoderSetBindGroup$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderSetBindGroup$MH() { return wgpuRenderBundleEncoderSetBindGroup$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderBundleEncoderSetIndexBuffer$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2558,12 +2698,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderBundleEncoderSetIndexBuffer$FUNC() { return wgpuRenderBundleEncoderSetIndexBuffer$FUNC_; }
 
-    static final MethodHandle wgpuRenderBundleEncoderSetIndexBuffer$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderBundleEncoderSetIndexBuffer",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;IJJ)V",
-        wgpuRenderBundleEncoderSetIndexBuffer$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderSetIndexBuffer$MH() { return wgpuRenderBundleEncoderSetIndexBuffer$MH_; }
+    static final class wgpuRenderBundleEncoderSetIndexBuffer$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderBundleEncoderSetIndexBuffer",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;IJJ)V",
+            wgpuRenderBundleEncoderSetIndexBuffer$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderSetIndexBuffer$MH() { return wgpuRenderBundleEncoderSetIndexBuffer$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderBundleEncoderSetPipeline$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2571,12 +2713,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderBundleEncoderSetPipeline$FUNC() { return wgpuRenderBundleEncoderSetPipeline$FUNC_; }
 
-    static final MethodHandle wgpuRenderBundleEncoderSetPipeline$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderBundleEncoderSetPipeline",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuRenderBundleEncoderSetPipeline$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderSetPipeline$MH() { return wgpuRenderBundleEncoderSetPipeline$MH_; }
+    static final class wgpuRenderBundleEncoderSetPipeline$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderBundleEncoderSetPipeline",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuRenderBundleEncoderSetPipeline$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderSetPipeline$MH() { return wgpuRenderBundleEncoderSetPipeline$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderBundleEncoderSetVertexBuffer$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2587,12 +2731,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderBundleEncoderSetVertexBuffer$FUNC() { return wgpuRenderBundleEncoderSetVertexBuffer$FUNC_; }
 
-    static final MethodHandle wgpuRenderBundleEncoderSetVertexBuffer$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderBundleEncoderSetVertexBuffer",
-        "(Ljdk/incubator/foreign/MemoryAddress;ILjdk/incubator/foreign/MemoryAddress;JJ)V",
-        wgpuRenderBundleEncoderSetVertexBuffer$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderSetVertexBuffer$MH() { return wgpuRenderBundleEncoderSetVertexBuffer$MH_; }
+    static final class wgpuRenderBundleEncoderSetVertexBuffer$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderBundleEncoderSetVertexBuffer",
+            "(Ljdk/incubator/foreign/MemoryAddress;ILjdk/incubator/foreign/MemoryAddress;JJ)V",
+            wgpuRenderBundleEncoderSetVertexBuffer$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderBundleEncoderSetVertexBuffer$MH() { return wgpuRenderBundleEncoderSetVertexBuffer$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderBeginOcclusionQuery$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2600,12 +2746,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderBeginOcclusionQuery$FUNC() { return wgpuRenderPassEncoderBeginOcclusionQuery$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderBeginOcclusionQuery$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderBeginOcclusionQuery",
-        "(Ljdk/incubator/foreign/MemoryAddress;I)V",
-        wgpuRenderPassEncoderBeginOcclusionQuery$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderBeginOcclusionQuery$MH() { return wgpuRenderPassEncoderBeginOcclusionQuery$MH_; }
+    static final class wgpuRenderPassEncoderBeginOcclusionQuery$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderBeginOcclusionQuery",
+            "(Ljdk/incubator/foreign/MemoryAddress;I)V",
+            wgpuRenderPassEncoderBeginOcclusionQuery$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderBeginOcclusionQuery$MH() { return wgpuRenderPassEncoderBeginOcclusionQuery$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderBeginPipelineStatisticsQuery$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2614,12 +2762,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderBeginPipelineStatisticsQuery$FUNC() { return wgpuRenderPassEncoderBeginPipelineStatisticsQuery$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderBeginPipelineStatisticsQuery$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderBeginPipelineStatisticsQuery",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;I)V",
-        wgpuRenderPassEncoderBeginPipelineStatisticsQuery$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderBeginPipelineStatisticsQuery$MH() { return wgpuRenderPassEncoderBeginPipelineStatisticsQuery$MH_; }
+    static final class wgpuRenderPassEncoderBeginPipelineStatisticsQuery$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderBeginPipelineStatisticsQuery",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;I)V",
+            wgpuRenderPassEncoderBeginPipelineStatisticsQuery$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderBeginPipelineStatisticsQuery$MH() { return wgpuRenderPassEncoderBeginPipelineStatisticsQuery$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderDraw$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2630,12 +2780,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderDraw$FUNC() { return wgpuRenderPassEncoderDraw$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderDraw$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderDraw",
-        "(Ljdk/incubator/foreign/MemoryAddress;IIII)V",
-        wgpuRenderPassEncoderDraw$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderDraw$MH() { return wgpuRenderPassEncoderDraw$MH_; }
+    static final class wgpuRenderPassEncoderDraw$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderDraw",
+            "(Ljdk/incubator/foreign/MemoryAddress;IIII)V",
+            wgpuRenderPassEncoderDraw$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderDraw$MH() { return wgpuRenderPassEncoderDraw$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderDrawIndexed$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2647,12 +2799,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderDrawIndexed$FUNC() { return wgpuRenderPassEncoderDrawIndexed$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderDrawIndexed$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderDrawIndexed",
-        "(Ljdk/incubator/foreign/MemoryAddress;IIIII)V",
-        wgpuRenderPassEncoderDrawIndexed$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderDrawIndexed$MH() { return wgpuRenderPassEncoderDrawIndexed$MH_; }
+    static final class wgpuRenderPassEncoderDrawIndexed$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderDrawIndexed",
+            "(Ljdk/incubator/foreign/MemoryAddress;IIIII)V",
+            wgpuRenderPassEncoderDrawIndexed$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderDrawIndexed$MH() { return wgpuRenderPassEncoderDrawIndexed$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderDrawIndexedIndirect$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2661,12 +2815,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderDrawIndexedIndirect$FUNC() { return wgpuRenderPassEncoderDrawIndexedIndirect$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderDrawIndexedIndirect$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderDrawIndexedIndirect",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;J)V",
-        wgpuRenderPassEncoderDrawIndexedIndirect$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderDrawIndexedIndirect$MH() { return wgpuRenderPassEncoderDrawIndexedIndirect$MH_; }
+    static final class wgpuRenderPassEncoderDrawIndexedIndirect$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderDrawIndexedIndirect",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;J)V",
+            wgpuRenderPassEncoderDrawIndexedIndirect$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderDrawIndexedIndirect$MH() { return wgpuRenderPassEncoderDrawIndexedIndirect$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderDrawIndirect$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2675,48 +2831,56 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderDrawIndirect$FUNC() { return wgpuRenderPassEncoderDrawIndirect$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderDrawIndirect$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderDrawIndirect",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;J)V",
-        wgpuRenderPassEncoderDrawIndirect$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderDrawIndirect$MH() { return wgpuRenderPassEncoderDrawIndirect$MH_; }
+    static final class wgpuRenderPassEncoderDrawIndirect$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderDrawIndirect",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;J)V",
+            wgpuRenderPassEncoderDrawIndirect$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderDrawIndirect$MH() { return wgpuRenderPassEncoderDrawIndirect$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderEndOcclusionQuery$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderEndOcclusionQuery$FUNC() { return wgpuRenderPassEncoderEndOcclusionQuery$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderEndOcclusionQuery$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderEndOcclusionQuery",
-        "(Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuRenderPassEncoderEndOcclusionQuery$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderEndOcclusionQuery$MH() { return wgpuRenderPassEncoderEndOcclusionQuery$MH_; }
+    static final class wgpuRenderPassEncoderEndOcclusionQuery$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderEndOcclusionQuery",
+            "(Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuRenderPassEncoderEndOcclusionQuery$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderEndOcclusionQuery$MH() { return wgpuRenderPassEncoderEndOcclusionQuery$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderEndPass$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderEndPass$FUNC() { return wgpuRenderPassEncoderEndPass$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderEndPass$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderEndPass",
-        "(Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuRenderPassEncoderEndPass$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderEndPass$MH() { return wgpuRenderPassEncoderEndPass$MH_; }
+    static final class wgpuRenderPassEncoderEndPass$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderEndPass",
+            "(Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuRenderPassEncoderEndPass$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderEndPass$MH() { return wgpuRenderPassEncoderEndPass$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderEndPipelineStatisticsQuery$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderEndPipelineStatisticsQuery$FUNC() { return wgpuRenderPassEncoderEndPipelineStatisticsQuery$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderEndPipelineStatisticsQuery$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderEndPipelineStatisticsQuery",
-        "(Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuRenderPassEncoderEndPipelineStatisticsQuery$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderEndPipelineStatisticsQuery$MH() { return wgpuRenderPassEncoderEndPipelineStatisticsQuery$MH_; }
+    static final class wgpuRenderPassEncoderEndPipelineStatisticsQuery$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderEndPipelineStatisticsQuery",
+            "(Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuRenderPassEncoderEndPipelineStatisticsQuery$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderEndPipelineStatisticsQuery$MH() { return wgpuRenderPassEncoderEndPipelineStatisticsQuery$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderExecuteBundles$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2725,12 +2889,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderExecuteBundles$FUNC() { return wgpuRenderPassEncoderExecuteBundles$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderExecuteBundles$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderExecuteBundles",
-        "(Ljdk/incubator/foreign/MemoryAddress;ILjdk/incubator/foreign/MemoryAddress;)V",
-        wgpuRenderPassEncoderExecuteBundles$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderExecuteBundles$MH() { return wgpuRenderPassEncoderExecuteBundles$MH_; }
+    static final class wgpuRenderPassEncoderExecuteBundles$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderExecuteBundles",
+            "(Ljdk/incubator/foreign/MemoryAddress;ILjdk/incubator/foreign/MemoryAddress;)V",
+            wgpuRenderPassEncoderExecuteBundles$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderExecuteBundles$MH() { return wgpuRenderPassEncoderExecuteBundles$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderInsertDebugMarker$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2738,24 +2904,28 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderInsertDebugMarker$FUNC() { return wgpuRenderPassEncoderInsertDebugMarker$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderInsertDebugMarker$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderInsertDebugMarker",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuRenderPassEncoderInsertDebugMarker$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderInsertDebugMarker$MH() { return wgpuRenderPassEncoderInsertDebugMarker$MH_; }
+    static final class wgpuRenderPassEncoderInsertDebugMarker$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderInsertDebugMarker",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuRenderPassEncoderInsertDebugMarker$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderInsertDebugMarker$MH() { return wgpuRenderPassEncoderInsertDebugMarker$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderPopDebugGroup$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderPopDebugGroup$FUNC() { return wgpuRenderPassEncoderPopDebugGroup$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderPopDebugGroup$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderPopDebugGroup",
-        "(Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuRenderPassEncoderPopDebugGroup$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderPopDebugGroup$MH() { return wgpuRenderPassEncoderPopDebugGroup$MH_; }
+    static final class wgpuRenderPassEncoderPopDebugGroup$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderPopDebugGroup",
+            "(Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuRenderPassEncoderPopDebugGroup$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderPopDebugGroup$MH() { return wgpuRenderPassEncoderPopDebugGroup$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderPushDebugGroup$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2763,12 +2933,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderPushDebugGroup$FUNC() { return wgpuRenderPassEncoderPushDebugGroup$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderPushDebugGroup$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderPushDebugGroup",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuRenderPassEncoderPushDebugGroup$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderPushDebugGroup$MH() { return wgpuRenderPassEncoderPushDebugGroup$MH_; }
+    static final class wgpuRenderPassEncoderPushDebugGroup$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderPushDebugGroup",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuRenderPassEncoderPushDebugGroup$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderPushDebugGroup$MH() { return wgpuRenderPassEncoderPushDebugGroup$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderSetBindGroup$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2779,12 +2951,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderSetBindGroup$FUNC() { return wgpuRenderPassEncoderSetBindGroup$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderSetBindGroup$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderSetBindGroup",
-        "(Ljdk/incubator/foreign/MemoryAddress;ILjdk/incubator/foreign/MemoryAddress;ILjdk/incubator/foreign/MemoryAddress;)V",
-        wgpuRenderPassEncoderSetBindGroup$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderSetBindGroup$MH() { return wgpuRenderPassEncoderSetBindGroup$MH_; }
+    static final class wgpuRenderPassEncoderSetBindGroup$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderSetBindGroup",
+            "(Ljdk/incubator/foreign/MemoryAddress;ILjdk/incubator/foreign/MemoryAddress;ILjdk/incubator/foreign/MemoryAddress;)V",
+            wgpuRenderPassEncoderSetBindGroup$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderSetBindGroup$MH() { return wgpuRenderPassEncoderSetBindGroup$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderSetBlendColor$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2792,12 +2966,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderSetBlendColor$FUNC() { return wgpuRenderPassEncoderSetBlendColor$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderSetBlendColor$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderSetBlendColor",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuRenderPassEncoderSetBlendColor$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderSetBlendColor$MH() { return wgpuRenderPassEncoderSetBlendColor$MH_; }
+    static final class wgpuRenderPassEncoderSetBlendColor$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderSetBlendColor",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuRenderPassEncoderSetBlendColor$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderSetBlendColor$MH() { return wgpuRenderPassEncoderSetBlendColor$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderSetIndexBuffer$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2808,12 +2984,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderSetIndexBuffer$FUNC() { return wgpuRenderPassEncoderSetIndexBuffer$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderSetIndexBuffer$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderSetIndexBuffer",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;IJJ)V",
-        wgpuRenderPassEncoderSetIndexBuffer$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderSetIndexBuffer$MH() { return wgpuRenderPassEncoderSetIndexBuffer$MH_; }
+    static final class wgpuRenderPassEncoderSetIndexBuffer$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderSetIndexBuffer",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;IJJ)V",
+            wgpuRenderPassEncoderSetIndexBuffer$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderSetIndexBuffer$MH() { return wgpuRenderPassEncoderSetIndexBuffer$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderSetPipeline$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2821,12 +2999,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderSetPipeline$FUNC() { return wgpuRenderPassEncoderSetPipeline$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderSetPipeline$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderSetPipeline",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuRenderPassEncoderSetPipeline$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderSetPipeline$MH() { return wgpuRenderPassEncoderSetPipeline$MH_; }
+    static final class wgpuRenderPassEncoderSetPipeline$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderSetPipeline",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuRenderPassEncoderSetPipeline$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderSetPipeline$MH() { return wgpuRenderPassEncoderSetPipeline$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderSetScissorRect$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2837,12 +3017,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderSetScissorRect$FUNC() { return wgpuRenderPassEncoderSetScissorRect$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderSetScissorRect$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderSetScissorRect",
-        "(Ljdk/incubator/foreign/MemoryAddress;IIII)V",
-        wgpuRenderPassEncoderSetScissorRect$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderSetScissorRect$MH() { return wgpuRenderPassEncoderSetScissorRect$MH_; }
+    static final class wgpuRenderPassEncoderSetScissorRect$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderSetScissorRect",
+            "(Ljdk/incubator/foreign/MemoryAddress;IIII)V",
+            wgpuRenderPassEncoderSetScissorRect$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderSetScissorRect$MH() { return wgpuRenderPassEncoderSetScissorRect$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderSetStencilReference$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2850,12 +3032,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderSetStencilReference$FUNC() { return wgpuRenderPassEncoderSetStencilReference$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderSetStencilReference$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderSetStencilReference",
-        "(Ljdk/incubator/foreign/MemoryAddress;I)V",
-        wgpuRenderPassEncoderSetStencilReference$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderSetStencilReference$MH() { return wgpuRenderPassEncoderSetStencilReference$MH_; }
+    static final class wgpuRenderPassEncoderSetStencilReference$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderSetStencilReference",
+            "(Ljdk/incubator/foreign/MemoryAddress;I)V",
+            wgpuRenderPassEncoderSetStencilReference$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderSetStencilReference$MH() { return wgpuRenderPassEncoderSetStencilReference$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderSetVertexBuffer$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2866,12 +3050,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderSetVertexBuffer$FUNC() { return wgpuRenderPassEncoderSetVertexBuffer$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderSetVertexBuffer$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderSetVertexBuffer",
-        "(Ljdk/incubator/foreign/MemoryAddress;ILjdk/incubator/foreign/MemoryAddress;JJ)V",
-        wgpuRenderPassEncoderSetVertexBuffer$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderSetVertexBuffer$MH() { return wgpuRenderPassEncoderSetVertexBuffer$MH_; }
+    static final class wgpuRenderPassEncoderSetVertexBuffer$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderSetVertexBuffer",
+            "(Ljdk/incubator/foreign/MemoryAddress;ILjdk/incubator/foreign/MemoryAddress;JJ)V",
+            wgpuRenderPassEncoderSetVertexBuffer$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderSetVertexBuffer$MH() { return wgpuRenderPassEncoderSetVertexBuffer$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderSetViewport$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2884,12 +3070,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderSetViewport$FUNC() { return wgpuRenderPassEncoderSetViewport$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderSetViewport$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderSetViewport",
-        "(Ljdk/incubator/foreign/MemoryAddress;FFFFFF)V",
-        wgpuRenderPassEncoderSetViewport$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderSetViewport$MH() { return wgpuRenderPassEncoderSetViewport$MH_; }
+    static final class wgpuRenderPassEncoderSetViewport$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderSetViewport",
+            "(Ljdk/incubator/foreign/MemoryAddress;FFFFFF)V",
+            wgpuRenderPassEncoderSetViewport$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderSetViewport$MH() { return wgpuRenderPassEncoderSetViewport$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderWriteTimestamp$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2898,12 +3086,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderWriteTimestamp$FUNC() { return wgpuRenderPassEncoderWriteTimestamp$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderWriteTimestamp$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderWriteTimestamp",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;I)V",
-        wgpuRenderPassEncoderWriteTimestamp$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderWriteTimestamp$MH() { return wgpuRenderPassEncoderWriteTimestamp$MH_; }
+    static final class wgpuRenderPassEncoderWriteTimestamp$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderWriteTimestamp",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;I)V",
+            wgpuRenderPassEncoderWriteTimestamp$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderWriteTimestamp$MH() { return wgpuRenderPassEncoderWriteTimestamp$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPipelineGetBindGroupLayout$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -2911,12 +3101,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPipelineGetBindGroupLayout$FUNC() { return wgpuRenderPipelineGetBindGroupLayout$FUNC_; }
 
-    static final MethodHandle wgpuRenderPipelineGetBindGroupLayout$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPipelineGetBindGroupLayout",
-        "(Ljdk/incubator/foreign/MemoryAddress;I)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuRenderPipelineGetBindGroupLayout$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPipelineGetBindGroupLayout$MH() { return wgpuRenderPipelineGetBindGroupLayout$MH_; }
+    static final class wgpuRenderPipelineGetBindGroupLayout$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPipelineGetBindGroupLayout",
+            "(Ljdk/incubator/foreign/MemoryAddress;I)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuRenderPipelineGetBindGroupLayout$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPipelineGetBindGroupLayout$MH() { return wgpuRenderPipelineGetBindGroupLayout$Holder.MH; }
 
     static final FunctionDescriptor wgpuSurfaceGetPreferredFormat$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -2926,36 +3118,42 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuSurfaceGetPreferredFormat$FUNC() { return wgpuSurfaceGetPreferredFormat$FUNC_; }
 
-    static final MethodHandle wgpuSurfaceGetPreferredFormat$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuSurfaceGetPreferredFormat",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuSurfaceGetPreferredFormat$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuSurfaceGetPreferredFormat$MH() { return wgpuSurfaceGetPreferredFormat$MH_; }
+    static final class wgpuSurfaceGetPreferredFormat$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuSurfaceGetPreferredFormat",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuSurfaceGetPreferredFormat$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuSurfaceGetPreferredFormat$MH() { return wgpuSurfaceGetPreferredFormat$Holder.MH; }
 
     static final FunctionDescriptor wgpuSwapChainGetCurrentTextureView$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuSwapChainGetCurrentTextureView$FUNC() { return wgpuSwapChainGetCurrentTextureView$FUNC_; }
 
-    static final MethodHandle wgpuSwapChainGetCurrentTextureView$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuSwapChainGetCurrentTextureView",
-        "(Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuSwapChainGetCurrentTextureView$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuSwapChainGetCurrentTextureView$MH() { return wgpuSwapChainGetCurrentTextureView$MH_; }
+    static final class wgpuSwapChainGetCurrentTextureView$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuSwapChainGetCurrentTextureView",
+            "(Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuSwapChainGetCurrentTextureView$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuSwapChainGetCurrentTextureView$MH() { return wgpuSwapChainGetCurrentTextureView$Holder.MH; }
 
     static final FunctionDescriptor wgpuSwapChainPresent$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuSwapChainPresent$FUNC() { return wgpuSwapChainPresent$FUNC_; }
 
-    static final MethodHandle wgpuSwapChainPresent$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuSwapChainPresent",
-        "(Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuSwapChainPresent$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuSwapChainPresent$MH() { return wgpuSwapChainPresent$MH_; }
+    static final class wgpuSwapChainPresent$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuSwapChainPresent",
+            "(Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuSwapChainPresent$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuSwapChainPresent$MH() { return wgpuSwapChainPresent$Holder.MH; }
 
     static final FunctionDescriptor wgpuTextureCreateView$FUNC_ = FunctionDescriptor.of(C_POINTER,
         C_POINTER,
@@ -2963,24 +3161,28 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuTextureCreateView$FUNC() { return wgpuTextureCreateView$FUNC_; }
 
-    static final MethodHandle wgpuTextureCreateView$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuTextureCreateView",
-        "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
-        wgpuTextureCreateView$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuTextureCreateView$MH() { return wgpuTextureCreateView$MH_; }
+    static final class wgpuTextureCreateView$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuTextureCreateView",
+            "(Ljdk/incubator/foreign/MemoryAddress;Ljdk/incubator/foreign/MemoryAddress;)Ljdk/incubator/foreign/MemoryAddress;",
+            wgpuTextureCreateView$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuTextureCreateView$MH() { return wgpuTextureCreateView$Holder.MH; }
 
     static final FunctionDescriptor wgpuTextureDestroy$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuTextureDestroy$FUNC() { return wgpuTextureDestroy$FUNC_; }
 
-    static final MethodHandle wgpuTextureDestroy$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuTextureDestroy",
-        "(Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuTextureDestroy$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuTextureDestroy$MH() { return wgpuTextureDestroy$MH_; }
+    static final class wgpuTextureDestroy$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuTextureDestroy",
+            "(Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuTextureDestroy$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuTextureDestroy$MH() { return wgpuTextureDestroy$Holder.MH; }
 
     static final int WGPUSType_DeviceExtras() { return (int)1610612737L; }
 
@@ -3043,36 +3245,42 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuDevicePoll$FUNC() { return wgpuDevicePoll$FUNC_; }
 
-    static final MethodHandle wgpuDevicePoll$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuDevicePoll",
-        "(Ljdk/incubator/foreign/MemoryAddress;B)V",
-        wgpuDevicePoll$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuDevicePoll$MH() { return wgpuDevicePoll$MH_; }
+    static final class wgpuDevicePoll$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuDevicePoll",
+            "(Ljdk/incubator/foreign/MemoryAddress;B)V",
+            wgpuDevicePoll$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuDevicePoll$MH() { return wgpuDevicePoll$Holder.MH; }
 
     static final FunctionDescriptor wgpuSetLogCallback$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuSetLogCallback$FUNC() { return wgpuSetLogCallback$FUNC_; }
 
-    static final MethodHandle wgpuSetLogCallback$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuSetLogCallback",
-        "(Ljdk/incubator/foreign/MemoryAddress;)V",
-        wgpuSetLogCallback$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuSetLogCallback$MH() { return wgpuSetLogCallback$MH_; }
+    static final class wgpuSetLogCallback$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuSetLogCallback",
+            "(Ljdk/incubator/foreign/MemoryAddress;)V",
+            wgpuSetLogCallback$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuSetLogCallback$MH() { return wgpuSetLogCallback$Holder.MH; }
 
     static final FunctionDescriptor wgpuSetLogLevel$FUNC_ = FunctionDescriptor.ofVoid(
         C_INT
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuSetLogLevel$FUNC() { return wgpuSetLogLevel$FUNC_; }
 
-    static final MethodHandle wgpuSetLogLevel$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuSetLogLevel",
-        "(I)V",
-        wgpuSetLogLevel$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuSetLogLevel$MH() { return wgpuSetLogLevel$MH_; }
+    static final class wgpuSetLogLevel$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuSetLogLevel",
+            "(I)V",
+            wgpuSetLogLevel$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuSetLogLevel$MH() { return wgpuSetLogLevel$Holder.MH; }
 
     static final FunctionDescriptor wgpuRenderPassEncoderSetPushConstants$FUNC_ = FunctionDescriptor.ofVoid(
         C_POINTER,
@@ -3083,12 +3291,14 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
     );
     static final jdk.incubator.foreign.FunctionDescriptor wgpuRenderPassEncoderSetPushConstants$FUNC() { return wgpuRenderPassEncoderSetPushConstants$FUNC_; }
 
-    static final MethodHandle wgpuRenderPassEncoderSetPushConstants$MH_ = RuntimeHelper.downcallHandle(
-        LIBRARIES, "wgpuRenderPassEncoderSetPushConstants",
-        "(Ljdk/incubator/foreign/MemoryAddress;IIILjdk/incubator/foreign/MemoryAddress;)V",
-        wgpuRenderPassEncoderSetPushConstants$FUNC_, false
-    );
-    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderSetPushConstants$MH() { return wgpuRenderPassEncoderSetPushConstants$MH_; }
+    static final class wgpuRenderPassEncoderSetPushConstants$Holder {
+        static final MethodHandle MH = RuntimeHelper.linkDowncall(
+            LIBRARIES, "wgpuRenderPassEncoderSetPushConstants",
+            "(Ljdk/incubator/foreign/MemoryAddress;IIILjdk/incubator/foreign/MemoryAddress;)V",
+            wgpuRenderPassEncoderSetPushConstants$FUNC_, false
+        );
+    }
+    static final java.lang.invoke.MethodHandle wgpuRenderPassEncoderSetPushConstants$MH() { return wgpuRenderPassEncoderSetPushConstants$Holder.MH; }
 
     static final int _VCRUNTIME_DISABLED_WARNINGS() { return (int)4514L; }
 
@@ -3193,5 +3403,5 @@ class wgpu_h_constants_1 extends wgpu_h_constants_0 {
 
     static final int WGPU_COPY_STRIDE_UNDEFINED() { return (int)4294967295L; }
 
+    static { RuntimeHelper.linkIfEager(wgpu_h_constants_1.class); }
 }
-
@@ -0,0 +1,121 @@
+package io.github.kgpu
+
+import java.lang.ref.Cleaner
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Destroys a device's buffers, textures and query sets once the GPU can no longer be using them.
+ * A resource may be referenced by any submission made before it was destroyed, so the native
+ * destroy is delayed until the work submitted up to that point has finished. Destroys requested
+ * between two submissions share a single wait.
+ *
+ * Handles that become unreachable without being destroyed are caught by a [Cleaner] and reported
+ * through [leaked] and [leaks]. They are not destroyed: a texture view or bind group may still be
+ * using a texture or buffer whose handle is no longer referenced.
+ */
+class DeferredDestroyer internal constructor(private val device: Device) {
+
+    /** Releases the native object of a single handle. Must not reference the handle itself */
+    class Lifetime internal constructor(
+        private val destroyer: DeferredDestroyer,
+        private val name: String,
+        private val release: () -> Unit
+    ) : Runnable {
+        private val destroyed = AtomicBoolean()
+
+        internal fun register(owner: Any) {
+            CLEANER.register(owner, this)
+        }
+
+        internal fun destroy() {
+            if (destroyed.compareAndSet(false, true))
+                destroyer.defer(release)
+        }
+
+        // Called by the cleaner once the owner is unreachable, or after it was destroyed
+        override fun run() {
+            if (destroyed.get())
+                return
+
+            destroyer.leaked(name)
+        }
+    }
+
+    private val queue by lazy { device.getDefaultQueue() }
+    private var batch = mutableListOf<() -> Unit>()
+    private val pending = AtomicInteger()
+    private val destroyedCount = AtomicLong()
+    private val leakedCount = AtomicLong()
+    private val leakedNames = ConcurrentLinkedQueue<String>()
+
+    /** The number of destroys waiting on the GPU */
+    val pendingCount: Int
+        get() = pending.get()
+
+    /** The number of native objects that have been destroyed */
+    val destroyed: Long
+        get() = destroyedCount.get()
+
+    /** The number of handles that became unreachable without being destroyed */
+    val leaked: Long
+        get() = leakedCount.get()
+
+    /** Returns the names of the most recently leaked handles, oldest first */
+    fun leaks(): List<String> {
+        return leakedNames.toList()
+    }
+
+    internal fun track(name: String, release: () -> Unit): Lifetime {
+        return Lifetime(this, name, release)
+    }
+
+    private fun leaked(name: String) {
+        leakedCount.incrementAndGet()
+        leakedNames.add(name)
+        while (leakedNames.size > MAX_REPORTED_LEAKS)
+            leakedNames.poll()
+    }
+
+    @Synchronized
+    private fun defer(release: () -> Unit) {
+        if (batch.isEmpty()) {
+            val current = batch
+            queue.submittedWorkDone().thenRunAsync { run(current) }
+        }
+
+        batch.add(release)
+        pending.incrementAndGet()
+    }
+
+    /** Starts a new batch, since work submitted from now on was not covered by the current wait */
+    @Synchronized
+    internal fun submitted() {
+        if (batch.isNotEmpty())
+            batch = mutableListOf()
+    }
+
+    private fun run(current: MutableList<() -> Unit>) {
+        synchronized(this) {
+            if (batch === current)
+                batch = mutableListOf()
+        }
+
+        current.forEach { release ->
+            release()
+            pending.decrementAndGet()
+            destroyedCount.incrementAndGet()
+        }
+    }
+
+    override fun toString(): String {
+        return "DeferredDestroyer(pending = $pendingCount, destroyed = $destroyed, leaked = $leaked)"
+    }
+
+    companion object {
+        private const val MAX_REPORTED_LEAKS = 64
+        private val CLEANER = Cleaner.create()
+    }
+}
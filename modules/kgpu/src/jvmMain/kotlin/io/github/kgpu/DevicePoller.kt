@@ -0,0 +1,191 @@
+package io.github.kgpu
+
+import io.github.kgpu.wgpuj.wgpu_h.*
+import jdk.incubator.foreign.MemoryAddress
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.locks.LockSupport
+import kotlin.coroutines.resume
+import kotlin.coroutines.suspendCoroutine
+
+/**
+ * Drives the callbacks of a device's asynchronous operations, such as buffer mapping, without
+ * blocking the threads waiting on them. Each operation suspends until wgpu-native calls its
+ * callback, and a daemon thread polls the device without waiting while any operation is pending.
+ *
+ * Callbacks identify their operation through the userdata pointer, which holds a request id
+ * instead of a real address. This way a single upcall stub can be shared by every request. The
+ * poll interval can be set in microseconds with the `kgpu.pollInterval` system property.
+ *
+ * Background requests, such as the fences of a [FramePacer], are always pending but nobody is
+ * blocked on them most of the time. While only background requests are pending the device is
+ * polled every few milliseconds instead, and a thread that has to wait on one polls for itself.
+ */
+class DevicePoller internal constructor(private val device: Id) {
+    private class Request(
+        val poller: DevicePoller,
+        val background: Boolean,
+        val onComplete: (Int, MemoryAddress) -> Unit
+    )
+
+    private class Completion(val request: Request, val status: Int, val result: MemoryAddress)
+
+    private val completions = ConcurrentLinkedQueue<Completion>()
+    private val pending = AtomicInteger()
+    private val active = AtomicInteger()
+    private val pollCount = AtomicLong()
+
+    @Volatile
+    private var thread: Thread? = null
+
+    /** The number of operations that have not completed yet */
+    val pendingCount: Int
+        get() = pending.get()
+
+    /** The number of times the poller thread has polled the device */
+    val polls: Long
+        get() = pollCount.get()
+
+    /**
+     * Starts an operation and suspends until its callback is called. [start] must pass the given
+     * userdata to a callback that calls [complete].
+     *
+     * @return the status passed to the callback
+     */
+    internal suspend fun await(start: (userdata: MemoryAddress) -> Unit): Int {
+        return awaitResult(start).first
+    }
+
+    /**
+     * Like [await], for operations whose callback also passes a result, such as a created
+     * pipeline.
+     *
+     * @return the status and the result passed to the callback
+     */
+    internal suspend fun awaitResult(start: (userdata: MemoryAddress) -> Unit): Pair<Int, MemoryAddress> {
+        return suspendCoroutine { continuation ->
+            try {
+                enqueue(start) { status, result -> continuation.resume(Pair(status, result)) }
+            } catch (e: Throwable) {
+                continuation.resumeWith(Result.failure(e))
+            }
+        }
+    }
+
+    /**
+     * Starts an operation without suspending. [onComplete] is called with the status and result
+     * from the poller thread, or from the thread that polled the device.
+     *
+     * @param background true if nothing is expected to wait on the operation soon
+     * @throws Throwable anything thrown by [start], in which case [onComplete] is never called
+     */
+    internal fun enqueue(
+        start: (userdata: MemoryAddress) -> Unit,
+        background: Boolean = false,
+        onComplete: (Int, MemoryAddress) -> Unit
+    ) {
+        val request = nextRequest.getAndIncrement()
+
+        pending.incrementAndGet()
+        if (!background)
+            active.incrementAndGet()
+        requests[request] = Request(this, background, onComplete)
+        try {
+            start(MemoryAddress.ofLong(request))
+        } catch (e: Throwable) {
+            requests.remove(request)
+            pending.decrementAndGet()
+            if (!background)
+                active.decrementAndGet()
+            throw e
+        }
+        wake()
+    }
+
+    /** Polls the device on the calling thread. Callbacks of completed operations are called from here */
+    fun poll(wait: Boolean = false) {
+        wgpuDevicePoll(device.address(), wait.toNativeByte())
+        dispatch()
+    }
+
+    // Runs outside of the upcalls, so a failing callback cannot unwind through native code
+    private fun dispatch() {
+        while (true) {
+            val completion = completions.poll() ?: return
+            val request = completion.request
+
+            pending.decrementAndGet()
+            if (!request.background)
+                active.decrementAndGet()
+
+            try {
+                request.onComplete(completion.status, completion.result)
+            } catch (e: Throwable) {
+                reportFailure(e)
+            }
+        }
+    }
+
+    private fun wake() {
+        val current = thread ?: startThread()
+        LockSupport.unpark(current)
+    }
+
+    @Synchronized
+    private fun startThread(): Thread {
+        thread?.let { return it }
+
+        val newThread = Thread(::run, "kgpu-device-poller")
+        newThread.isDaemon = true
+        newThread.start()
+        thread = newThread
+
+        return newThread
+    }
+
+    private fun run() {
+        while (true) {
+            if (pending.get() == 0) {
+                LockSupport.park(this)
+            } else {
+                poll()
+                pollCount.incrementAndGet()
+                LockSupport.parkNanos(this, if (active.get() > 0) POLL_INTERVAL_NANOS else IDLE_POLL_INTERVAL_NANOS)
+            }
+        }
+    }
+
+    override fun toString(): String {
+        return "DevicePoller(pending = $pendingCount, polls = $polls)"
+    }
+
+    companion object {
+        internal val POLL_INTERVAL_NANOS = TimeUnit.MICROSECONDS.toNanos(KgpuProperties.pollInterval)
+        private val IDLE_POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(4)
+        private val requests = ConcurrentHashMap<Long, Request>()
+        private val nextRequest = AtomicLong(1)
+
+        /**
+         * Records that the operation identified by [userdata] completed. Called from the shared
+         * callback stubs, the operation is resumed by the next [poll] of its device.
+         */
+        internal fun complete(userdata: MemoryAddress, status: Int, result: MemoryAddress = CUtils.NULL) {
+            // An exception escaping an upcall crashes the JVM
+            try {
+                val request = requests.remove(userdata.toRawLongValue()) ?: return
+                request.poller.completions.add(Completion(request, status, result))
+            } catch (e: Throwable) {
+                runCatching { reportFailure(e) }
+            }
+        }
+
+        /** Hands a failure that has no caller to throw to, to the uncaught exception handler of the current thread */
+        private fun reportFailure(e: Throwable) {
+            val thread = Thread.currentThread()
+            thread.uncaughtExceptionHandler.uncaughtException(thread, e)
+        }
+    }
+}
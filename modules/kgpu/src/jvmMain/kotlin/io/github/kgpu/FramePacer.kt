@@ -0,0 +1,75 @@
+package io.github.kgpu
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.locks.LockSupport
+
+/**
+ * Bounds how many frames the CPU can queue ahead of the GPU. Each frame index has a fence that is
+ * signaled once the work submitted during that frame has finished, and [beginFrame] waits on the
+ * fence of the frame that last used the index. Only the calling thread blocks while waiting.
+ *
+ * Fences are background requests of the device poller, so a pending fence does not keep the
+ * poller busy. [beginFrame] polls the device itself without blocking while it waits, so it never
+ * waits on work that other threads submitted after the frame.
+ *
+ * Used by [Kgpu.runLoop], but can also drive a custom loop:
+ * ```
+ * pacer.beginFrame()
+ * render(pacer.frameIndex)
+ * pacer.endFrame()
+ * ```
+ */
+class FramePacer(private val queue: Queue, val framesInFlight: Int) {
+    private val fences = arrayOfNulls<CompletableFuture<Int>>(framesInFlight)
+
+    init {
+        if (framesInFlight < 1)
+            throw IllegalArgumentException("At least one frame must be in flight: $framesInFlight")
+    }
+
+    /** The number of frames that have ended */
+    var frameNumber = 0L
+        private set
+
+    /** The index of the current frame, from 0 until [framesInFlight] exclusive */
+    val frameIndex: Int
+        get() = (frameNumber % framesInFlight).toInt()
+
+    /** How long the last call to [beginFrame] waited on the GPU, in nanoseconds */
+    var lastWaitNanos = 0L
+        private set
+
+    /** How long every call to [beginFrame] waited on the GPU in total, in nanoseconds */
+    var totalWaitNanos = 0L
+        private set
+
+    /** Waits until the GPU has finished the last frame that used the current frame index */
+    fun beginFrame() {
+        val fence = fences[frameIndex]
+        if (fence == null || fence.isDone) {
+            lastWaitNanos = 0
+            return
+        }
+
+        val start = System.nanoTime()
+        val poller = queue.poller
+        while (!fence.isDone) {
+            poller.poll()
+            if (!fence.isDone)
+                LockSupport.parkNanos(DevicePoller.POLL_INTERVAL_NANOS)
+        }
+        fence.join()
+        lastWaitNanos = System.nanoTime() - start
+        totalWaitNanos += lastWaitNanos
+    }
+
+    /** Signals the fence of the current frame index. Must be called after the frame was submitted */
+    fun endFrame() {
+        fences[frameIndex] = queue.submittedWorkDone(background = true)
+        frameNumber++
+    }
+
+    override fun toString(): String {
+        return "FramePacer(framesInFlight = $framesInFlight, frameNumber = $frameNumber, totalWaitNanos = $totalWaitNanos)"
+    }
+}
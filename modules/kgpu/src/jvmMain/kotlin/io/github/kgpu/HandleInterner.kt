@@ -0,0 +1,109 @@
+package io.github.kgpu
+
+import java.util.concurrent.CompletableFuture
+
+/**
+ * Interns bind group layouts, pipeline layouts and samplers. Descriptors are compared by value, so
+ * creating an object from a descriptor that is equal to one that was already used returns the
+ * existing handle instead of calling into wgpu-native. Each [Device] owns an interner which is used
+ * by [Device.createBindGroupLayout], [Device.createPipelineLayout] and [Device.createSampler].
+ *
+ * kgpu never releases the native objects behind these handles, so an interned handle lives as
+ * long as its device and is never removed from the interner. Interning can be disabled with the
+ * `kgpu.internHandles` system property.
+ *
+ * Handles are created outside of the interner's lock. A thread that asks for a handle which is
+ * still being created waits for it instead of creating a duplicate.
+ */
+class HandleInterner internal constructor(val enabled: Boolean) {
+    private val entries = HashMap<List<Any?>, CompletableFuture<Any>>()
+
+    var hits = 0L
+        private set
+    var misses = 0L
+        private set
+
+    /** The number of distinct handles that are currently interned */
+    val size: Int
+        @Synchronized get() = entries.size
+
+    internal fun <T : Any> intern(key: List<Any?>, create: () -> T): T {
+        if (!enabled)
+            return create()
+
+        val future = CompletableFuture<Any>()
+        val existing = synchronized(this) {
+            val existing = entries[key]
+            if (existing != null) {
+                hits++
+            } else {
+                misses++
+                entries[key] = future
+            }
+
+            existing
+        }
+
+        if (existing != null) {
+            @Suppress("UNCHECKED_CAST")
+            return existing.joinUnwrapped() as T
+        }
+
+        val handle = try {
+            create()
+        } catch (e: Throwable) {
+            future.completeExceptionally(e)
+            synchronized(this) { entries.remove(key, future) }
+            throw e
+        }
+
+        future.complete(handle)
+        return handle
+    }
+
+    override fun toString(): String {
+        return "HandleInterner(size = $size, hits = $hits, misses = $misses)"
+    }
+
+    companion object {
+        internal fun structuralKey(desc: BindGroupLayoutDescriptor): List<Any?> {
+            return listOf(
+                "BindGroupLayout",
+                desc.entries.map { entry ->
+                    listOf(entry.binding, entry.visibility, structuralKey(entry.bindingLayout))
+                }
+            )
+        }
+
+        internal fun structuralKey(desc: PipelineLayoutDescriptor): List<Any?> {
+            return listOf("PipelineLayout", desc.ids.toList())
+        }
+
+        internal fun structuralKey(desc: SamplerDescriptor): List<Any?> {
+            return listOf(
+                "Sampler",
+                desc.compare,
+                desc.addressModeU,
+                desc.addressModeV,
+                desc.addressModeW,
+                desc.magFilter,
+                desc.minFilter,
+                desc.mipmapFilter,
+                desc.lodMinClamp,
+                desc.lodMaxClamp,
+                desc.maxAnisotrophy
+            )
+        }
+
+        private fun structuralKey(layout: BindingLayout): Any {
+            return when (layout) {
+                is BufferBindingLayout -> listOf(layout.type, layout.hasDynamicOffset, layout.minBindingSize)
+                is TextureBindingLayout -> listOf(layout.sampleType, layout.viewDimension, layout.multisampled)
+                is SamplerBindingLayout -> listOf(layout.type)
+                // The bindings have no storage or external texture layouts yet. Any other subclass
+                // is only shared with the same instance, since its fields are unknown here
+                else -> layout
+            }
+        }
+    }
+}
@@ -52,7 +52,7 @@ actual class CommandEncoder(val id: Id) {
     }
 
     actual fun beginRenderPass(desc: RenderPassDescriptor): RenderPassEncoder {
-        return RenderPassEncoder(NativeScope.unboundedScope().use { scope ->
+        return RenderPassEncoder(NativeArena.push().use { scope ->
             val descriptor = WGPURenderPassDescriptor.allocate(scope)
             val colorAttachments =
                 WGPURenderPassColorAttachmentDescriptor.allocateArray(desc.colorAttachments.size, scope)
@@ -88,13 +88,17 @@ actual class CommandEncoder(val id: Id) {
 
             WGPURenderPassDescriptor.`colorAttachments$set`(descriptor, colorAttachments.address())
             WGPURenderPassDescriptor.`colorAttachmentCount$set`(descriptor, desc.colorAttachments.size)
+            WGPURenderPassDescriptor.`occlusionQuerySet$set`(
+                descriptor,
+                desc.occlusionQuerySet?.id?.address() ?: CUtils.NULL
+            )
 
             wgpuCommandEncoderBeginRenderPass(id, descriptor.address())
         })
     }
 
     actual fun finish(): CommandBuffer {
-        return CommandBuffer(Id(NativeScope.unboundedScope().use { scope ->
+        return CommandBuffer(Id(NativeArena.push().use { scope ->
             val descriptor = WGPUCommandBufferDescriptor.allocate(scope)
             //TODO: Support labels
             WGPUCommandBufferDescriptor.`label$set`(descriptor, CUtils.NULL)
@@ -105,7 +109,7 @@ actual class CommandEncoder(val id: Id) {
     actual fun copyBufferToTexture(
         source: BufferCopyView, destination: TextureCopyView, copySize: Extent3D
     ) {
-        NativeScope.unboundedScope().use { scope ->
+        NativeArena.push().use { scope ->
             wgpuCommandEncoderCopyBufferToTexture(
                 id,
                 source.toNative(scope),
@@ -116,7 +120,7 @@ actual class CommandEncoder(val id: Id) {
     }
 
     actual fun beginComputePass(): ComputePassEncoder {
-        return ComputePassEncoder(NativeScope.unboundedScope().use { scope ->
+        return ComputePassEncoder(NativeArena.push().use { scope ->
             val descriptor = WGPUComputePassDescriptor.allocate(scope)
             WGPUComputePassDescriptor.`label$set`(descriptor, CUtils.NULL)
 
@@ -125,14 +129,14 @@ actual class CommandEncoder(val id: Id) {
     }
 
     actual fun copyBufferToBuffer(
-        source: Buffer, destination: Buffer, size: Long, sourceOffset: Int, destinationOffset: Int
+        source: Buffer, destination: Buffer, size: Long, sourceOffset: Long, destinationOffset: Long
     ) {
         wgpuCommandEncoderCopyBufferToBuffer(
             id,
             source.id.address(),
-            sourceOffset.toLong(),
+            sourceOffset,
             destination.id.address(),
-            destinationOffset.toLong(),
+            destinationOffset,
             size
         )
     }
@@ -140,16 +144,67 @@ actual class CommandEncoder(val id: Id) {
     actual fun copyTextureToBuffer(source: TextureCopyView, dest: BufferCopyView, size: Extent3D) {
         TODO()
     }
+
+    actual fun writeTimestamp(querySet: QuerySet, queryIndex: Int) {
+        wgpuCommandEncoderWriteTimestamp(id, querySet.id, queryIndex)
+    }
+
+    actual fun resolveQuerySet(
+        querySet: QuerySet, firstQuery: Int, queryCount: Int, destination: Buffer, destinationOffset: Long
+    ) {
+        wgpuCommandEncoderResolveQuerySet(
+            id,
+            querySet.id,
+            firstQuery,
+            queryCount,
+            destination.id,
+            destinationOffset
+        )
+    }
+}
+
+actual class QuerySetDescriptor
+actual constructor(
+    val type: QueryType, val count: Int, vararg val pipelineStatistics: PipelineStatisticName
+)
+
+actual class QuerySet(
+    val id: Id,
+    actual val type: QueryType,
+    actual val count: Int,
+    private val lifetime: DeferredDestroyer.Lifetime? = null
+) {
+
+    init {
+        lifetime?.register(this)
+    }
+
+    override fun toString(): String {
+        return "QuerySet$id"
+    }
+
+    /** Destroys the query set once the work submitted so far has finished */
+    actual fun destroy() {
+        if (lifetime != null) lifetime.destroy() else wgpuQuerySetDestroy(id)
+    }
 }
 
 actual class RenderPassEncoder(var pass: MemoryAddress) {
+    private val state = PassStateFilter(KgpuProperties.filterRedundantState)
+
+    /** The number of pipeline, bind group, vertex and index buffer binds that were already bound */
+    val elidedCalls: Long
+        get() = state.elided
 
     override fun toString(): String {
-        return "RenderPassEncoder"
+        return "RenderPassEncoder(elidedCalls = $elidedCalls)"
     }
 
     actual fun setPipeline(pipeline: RenderPipeline) {
         assertPassStillValid()
+        if (!state.updatePipeline(pipeline.id))
+            return
+
         wgpuRenderPassEncoderSetPipeline(pass, pipeline.id)
     }
 
@@ -165,6 +220,9 @@ actual class RenderPassEncoder(var pass: MemoryAddress) {
 
     actual fun setVertexBuffer(slot: Long, buffer: Buffer, offset: Long, size: Long) {
         assertPassStillValid()
+        if (!state.updateVertexBuffer(slot.toInt(), buffer.id, offset, size))
+            return
+
         wgpuRenderPassEncoderSetVertexBuffer(pass, slot.toInt(), buffer.id, offset, size)
     }
 
@@ -177,21 +235,186 @@ actual class RenderPassEncoder(var pass: MemoryAddress) {
 
     actual fun setIndexBuffer(buffer: Buffer, indexFormat: IndexFormat, offset: Long, size: Long) {
         assertPassStillValid()
+        if (!state.updateIndexBuffer(buffer.id, indexFormat.nativeVal, offset, size))
+            return
+
         wgpuRenderPassEncoderSetIndexBuffer(pass, buffer.id, indexFormat.nativeVal, offset, size)
     }
 
+    actual fun drawIndirect(indirectBuffer: Buffer, indirectOffset: Long) {
+        assertPassStillValid()
+        wgpuRenderPassEncoderDrawIndirect(pass, indirectBuffer.id, indirectOffset)
+    }
+
+    actual fun drawIndexedIndirect(indirectBuffer: Buffer, indirectOffset: Long) {
+        assertPassStillValid()
+        wgpuRenderPassEncoderDrawIndexedIndirect(pass, indirectBuffer.id, indirectOffset)
+    }
+
     actual fun setBindGroup(index: Int, bindGroup: BindGroup) {
         assertPassStillValid()
+        if (!state.updateBindGroup(index, bindGroup.id, PassStateFilter.NO_DYNAMIC_OFFSETS))
+            return
 
         wgpuRenderPassEncoderSetBindGroup(pass, index, bindGroup.id, 0, CUtils.NULL)
     }
 
+    actual fun setBindGroup(index: Int, bindGroup: BindGroup, dynamicOffsets: IntArray) {
+        assertPassStillValid()
+        if (!state.updateBindGroup(index, bindGroup.id, dynamicOffsets))
+            return
+
+        NativeArena.push().use { scope ->
+            wgpuRenderPassEncoderSetBindGroup(
+                pass,
+                index,
+                bindGroup.id,
+                dynamicOffsets.size,
+                CUtils.copyToNativeArray(dynamicOffsets, scope)
+            )
+        }
+    }
+
+    actual fun writeTimestamp(querySet: QuerySet, queryIndex: Int) {
+        assertPassStillValid()
+        wgpuRenderPassEncoderWriteTimestamp(pass, querySet.id, queryIndex)
+    }
+
+    actual fun beginPipelineStatisticsQuery(querySet: QuerySet, queryIndex: Int) {
+        assertPassStillValid()
+        wgpuRenderPassEncoderBeginPipelineStatisticsQuery(pass, querySet.id, queryIndex)
+    }
+
+    actual fun endPipelineStatisticsQuery() {
+        assertPassStillValid()
+        wgpuRenderPassEncoderEndPipelineStatisticsQuery(pass)
+    }
+
+    actual fun beginOcclusionQuery(queryIndex: Int) {
+        assertPassStillValid()
+        wgpuRenderPassEncoderBeginOcclusionQuery(pass, queryIndex)
+    }
+
+    actual fun endOcclusionQuery() {
+        assertPassStillValid()
+        wgpuRenderPassEncoderEndOcclusionQuery(pass)
+    }
+
+    actual fun executeBundles(vararg bundles: RenderBundle) {
+        assertPassStillValid()
+
+        NativeArena.push().use { scope ->
+            val bundleIds = CUtils.copyToNativeArray(bundles.map { it.id.id }.toLongArray(), scope)
+
+            wgpuRenderPassEncoderExecuteBundles(pass, bundles.size, bundleIds)
+        }
+
+        // Executing bundles unsets the pass' state
+        state.reset()
+    }
+
     private fun assertPassStillValid() {
         if (pass == CUtils.NULL)
             throw RuntimeException("Render Pass Encoder has ended.")
     }
 }
 
+actual class RenderBundleEncoderDescriptor
+actual constructor(
+    vararg val colorFormats: TextureFormat,
+    val depthStencilFormat: TextureFormat?,
+    val sampleCount: Int
+)
+
+actual class RenderBundleEncoder(var encoder: MemoryAddress) {
+
+    override fun toString(): String {
+        return "RenderBundleEncoder"
+    }
+
+    actual fun setPipeline(pipeline: RenderPipeline) {
+        assertEncoderStillValid()
+        wgpuRenderBundleEncoderSetPipeline(encoder, pipeline.id)
+    }
+
+    actual fun setBindGroup(index: Int, bindGroup: BindGroup) {
+        assertEncoderStillValid()
+        wgpuRenderBundleEncoderSetBindGroup(encoder, index, bindGroup.id, 0, CUtils.NULL)
+    }
+
+    actual fun setBindGroup(index: Int, bindGroup: BindGroup, dynamicOffsets: IntArray) {
+        assertEncoderStillValid()
+
+        NativeArena.push().use { scope ->
+            wgpuRenderBundleEncoderSetBindGroup(
+                encoder,
+                index,
+                bindGroup.id,
+                dynamicOffsets.size,
+                CUtils.copyToNativeArray(dynamicOffsets, scope)
+            )
+        }
+    }
+
+    actual fun setVertexBuffer(slot: Long, buffer: Buffer, offset: Long, size: Long) {
+        assertEncoderStillValid()
+        wgpuRenderBundleEncoderSetVertexBuffer(encoder, slot.toInt(), buffer.id, offset, size)
+    }
+
+    actual fun setIndexBuffer(buffer: Buffer, indexFormat: IndexFormat, offset: Long, size: Long) {
+        assertEncoderStillValid()
+        wgpuRenderBundleEncoderSetIndexBuffer(encoder, buffer.id, indexFormat.nativeVal, offset, size)
+    }
+
+    actual fun draw(vertexCount: Int, instanceCount: Int, firstVertex: Int, firstInstance: Int) {
+        assertEncoderStillValid()
+        wgpuRenderBundleEncoderDraw(encoder, vertexCount, instanceCount, firstVertex, firstInstance)
+    }
+
+    actual fun drawIndexed(
+        indexCount: Int, instanceCount: Int, firstVertex: Int, baseVertex: Int, firstInstance: Int
+    ) {
+        assertEncoderStillValid()
+        wgpuRenderBundleEncoderDrawIndexed(encoder, indexCount, instanceCount, firstVertex, baseVertex, firstInstance)
+    }
+
+    actual fun drawIndirect(indirectBuffer: Buffer, indirectOffset: Long) {
+        assertEncoderStillValid()
+        wgpuRenderBundleEncoderDrawIndirect(encoder, indirectBuffer.id, indirectOffset)
+    }
+
+    actual fun drawIndexedIndirect(indirectBuffer: Buffer, indirectOffset: Long) {
+        assertEncoderStillValid()
+        wgpuRenderBundleEncoderDrawIndexedIndirect(encoder, indirectBuffer.id, indirectOffset)
+    }
+
+    actual fun finish(): RenderBundle {
+        assertEncoderStillValid()
+
+        val bundle = NativeArena.push().use { scope ->
+            val descriptor = WGPURenderBundleDescriptor.allocate(scope)
+            WGPURenderBundleDescriptor.`label$set`(descriptor, CUtils.NULL)
+
+            wgpuRenderBundleEncoderFinish(encoder, descriptor)
+        }
+        encoder = CUtils.NULL
+
+        return RenderBundle(Id(bundle))
+    }
+
+    private fun assertEncoderStillValid() {
+        if (encoder == CUtils.NULL)
+            throw RuntimeException("Render Bundle Encoder has finished.")
+    }
+}
+
+actual class RenderBundle(val id: Id) {
+
+    override fun toString(): String {
+        return "RenderBundle$id"
+    }
+}
+
 actual class RenderPassColorAttachmentDescriptor
 actual constructor(
     val attachment: TextureView,
@@ -202,8 +425,10 @@ actual constructor(
 )
 
 actual class RenderPassDescriptor
-actual constructor(vararg val colorAttachments: RenderPassColorAttachmentDescriptor) {
-}
+actual constructor(
+    vararg val colorAttachments: RenderPassColorAttachmentDescriptor,
+    val occlusionQuerySet: QuerySet?
+)
 
 actual class RenderPipeline internal constructor(val id: Id) {
 
@@ -286,29 +511,78 @@ actual class ComputePipeline internal constructor(val id: Id) {
 }
 
 actual class ComputePassEncoder(var pass: MemoryAddress) {
+    private val state = PassStateFilter(KgpuProperties.filterRedundantState)
+
+    /** The number of pipeline and bind group binds that were already bound */
+    val elidedCalls: Long
+        get() = state.elided
 
     override fun toString(): String {
-        return "ComputePassEncoder"
+        return "ComputePassEncoder(elidedCalls = $elidedCalls)"
     }
 
     actual fun setPipeline(pipeline: ComputePipeline) {
         assertPassStillValid()
+        if (!state.updatePipeline(pipeline.id))
+            return
 
         wgpuComputePassEncoderSetPipeline(pass, pipeline.id.address())
     }
 
     actual fun setBindGroup(index: Int, bindGroup: BindGroup) {
         assertPassStillValid()
+        if (!state.updateBindGroup(index, bindGroup.id, PassStateFilter.NO_DYNAMIC_OFFSETS))
+            return
 
         wgpuComputePassEncoderSetBindGroup(pass, index, bindGroup.id.address(), 0, CUtils.NULL)
     }
 
+    actual fun setBindGroup(index: Int, bindGroup: BindGroup, dynamicOffsets: IntArray) {
+        assertPassStillValid()
+        if (!state.updateBindGroup(index, bindGroup.id, dynamicOffsets))
+            return
+
+        NativeArena.push().use { scope ->
+            wgpuComputePassEncoderSetBindGroup(
+                pass,
+                index,
+                bindGroup.id.address(),
+                dynamicOffsets.size,
+                CUtils.copyToNativeArray(dynamicOffsets, scope)
+            )
+        }
+    }
+
     actual fun dispatch(x: Int, y: Int, z: Int) {
         assertPassStillValid()
 
         wgpuComputePassEncoderDispatch(pass, x, y, z)
     }
 
+    actual fun dispatchIndirect(indirectBuffer: Buffer, indirectOffset: Long) {
+        assertPassStillValid()
+
+        wgpuComputePassEncoderDispatchIndirect(pass, indirectBuffer.id, indirectOffset)
+    }
+
+    actual fun writeTimestamp(querySet: QuerySet, queryIndex: Int) {
+        assertPassStillValid()
+
+        wgpuComputePassEncoderWriteTimestamp(pass, querySet.id, queryIndex)
+    }
+
+    actual fun beginPipelineStatisticsQuery(querySet: QuerySet, queryIndex: Int) {
+        assertPassStillValid()
+
+        wgpuComputePassEncoderBeginPipelineStatisticsQuery(pass, querySet.id, queryIndex)
+    }
+
+    actual fun endPipelineStatisticsQuery() {
+        assertPassStillValid()
+
+        wgpuComputePassEncoderEndPipelineStatisticsQuery(pass)
+    }
+
     actual fun endPass() {
         assertPassStillValid()
 
@@ -15,6 +15,26 @@ actual enum class FrontFace(val nativeVal: Int) {
     CW(WGPUFrontFace_CW()),
 }
 
+actual enum class QueryType(val nativeVal: Int) {
+    OCCLUSION(WGPUQueryType_Occlusion()),
+    PIPELINE_STATISTICS(WGPUQueryType_PipelineStatistics()),
+    TIMESTAMP(WGPUQueryType_Timestamp()),
+}
+
+actual enum class PipelineStatisticName(val nativeVal: Int) {
+    VERTEX_SHADER_INVOCATIONS(WGPUPipelineStatisticName_VertexShaderInvocations()),
+    CLIPPER_INVOCATIONS(WGPUPipelineStatisticName_ClipperInvocations()),
+    CLIPPER_PRIMITIVES_OUT(WGPUPipelineStatisticName_ClipperPrimitivesOut()),
+    FRAGMENT_SHADER_INVOCATIONS(WGPUPipelineStatisticName_FragmentShaderInvocations()),
+    COMPUTE_SHADER_INVOCATIONS(WGPUPipelineStatisticName_ComputeShaderInvocations()),
+}
+
+actual enum class PresentMode(val nativeVal: Int) {
+    IMMEDIATE(WGPUPresentMode_Immediate()),
+    MAILBOX(WGPUPresentMode_Mailbox()),
+    FIFO(WGPUPresentMode_Fifo()),
+}
+
 actual enum class CullMode(val nativeVal: Int) {
     NONE(WGPUCullMode_None()),
     FRONT(WGPUCullMode_Front()),
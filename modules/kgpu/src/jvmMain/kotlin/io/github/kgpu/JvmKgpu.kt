@@ -1,10 +1,12 @@
 package io.github.kgpu
 
+import io.github.kgpu.wgpuj.WgpuLinker
 import io.github.kgpu.wgpuj.wgpu_h
 import io.github.kgpu.wgpuj.wgpu_h.*
 import jdk.incubator.foreign.*
 import java.nio.ByteBuffer
 import java.nio.charset.StandardCharsets
+import java.util.concurrent.CompletableFuture
 import java.util.concurrent.atomic.AtomicLong
 
 object Platform {
@@ -22,6 +24,13 @@ object CUtils {
 
         return scope.allocateArray(MemoryLayouts.JAVA_LONG, values).address()
     }
+
+    fun copyToNativeArray(values: IntArray, scope: NativeScope): MemoryAddress {
+        if (values.isEmpty())
+            return NULL
+
+        return scope.allocateArray(MemoryLayouts.JAVA_INT, values).address()
+    }
 }
 
 fun Boolean.toNativeByte(): Byte {
@@ -51,6 +60,10 @@ fun <T> Array<T>.mapToNativeEntries(
 actual object Kgpu {
     actual val undefined = null
 
+    /** How long each stage of [loadNativesFromClasspath] took, in nanoseconds */
+    var nativeLoadTimings: Map<String, Long> = emptyMap()
+        private set
+
     fun initGlfw() {
         GlfwHandler.glfwInit()
     }
@@ -77,10 +90,19 @@ actual object Kgpu {
      * Extracts wgpu-native from the classpath and loads it for the
      * JVM to use. For this function to work, there must be a library
      * called "wgpu_native" in the root of the classpath
+     *
+     * @param prelink if true, the native functions are linked on a background thread
+     * instead of the first time they are called. See [WgpuLinker]
      */
-    fun loadNativesFromClasspath() {
-        val library = SharedLibraryLoader().load("wgpu_native")
+    fun loadNativesFromClasspath(prelink: Boolean = false) {
+        val loader = SharedLibraryLoader()
+        val library = loader.load("wgpu_native")
         System.load(library.absolutePath)
+        nativeLoadTimings = loader.timings
+
+        if (prelink) {
+            WgpuLinker.prelinkAsync()
+        }
     }
 
     actual fun runLoop(window: Window, func: () -> Unit) {
@@ -92,6 +114,19 @@ actual object Kgpu {
         GlfwHandler.terminate()
     }
 
+    actual fun runLoop(window: Window, queue: Queue, framesInFlight: Int, func: (frameIndex: Int) -> Unit) {
+        val pacer = FramePacer(queue, framesInFlight)
+
+        while (!window.isCloseRequested()) {
+            window.update()
+            pacer.beginFrame()
+            func(pacer.frameIndex)
+            pacer.endFrame()
+        }
+
+        GlfwHandler.terminate()
+    }
+
     actual suspend fun requestAdapterAsync(window: Window?): Adapter {
         val output = AtomicLong()
 
@@ -134,7 +169,7 @@ actual class Adapter(val id: Id) {
 
             if (tracePath != null) {
                 println("Trace Path Set: $tracePath")
-                WGPUDeviceExtras.`tracePath$set`(deviceExtras, CLinker.toCString(tracePath).address())
+                WGPUDeviceExtras.`tracePath$set`(deviceExtras, NativeStringPool.get(tracePath, scope))
             }
 
             wgpuAdapterRequestDevice(id.address(), desc, callback, CUtils.NULL)
@@ -146,12 +181,30 @@ actual class Adapter(val id: Id) {
 
 actual class Device(val id: Id) {
 
+    /** Caches pipelines created by [createRenderPipeline] and [createComputePipeline] */
+    val pipelineCache = PipelineCache(KgpuProperties.pipelineCacheSize)
+
+    /** Interns objects created by [createBindGroupLayout], [createPipelineLayout] and [createSampler] */
+    val interner = HandleInterner(KgpuProperties.internHandles)
+
+    /** Completes asynchronous operations, such as [Buffer.mapAsync], on a background thread */
+    val poller = DevicePoller(id)
+
+    /** Destroys buffers, textures and query sets once the GPU has finished using them */
+    val destroyer = DeferredDestroyer(this)
+
+    /** Records the buffers and textures created by this device until they are destroyed */
+    val resources = ResourceRegistry(KgpuProperties.trackCreationSites)
+
+    /** Compiles pipelines for [createRenderPipelineAsync] and [createComputePipelineAsync] */
+    val compiler by lazy { PipelineCompiler(this) }
+
     override fun toString(): String {
         return "Device$id"
     }
 
     actual fun createShaderModule(src: String): ShaderModule {
-        return NativeScope.unboundedScope().use { scope ->
+        return NativeArena.push().use { scope ->
             val desc = WGPUShaderModuleDescriptor.allocate(scope)
             val wgsl = WGPUShaderModuleWGSLDescriptor.allocate(scope)
             val wgslChain = WGPUShaderModuleWGSLDescriptor.`chain$slice`(wgsl)
@@ -165,96 +218,154 @@ actual class Device(val id: Id) {
         }
     }
 
+    /**
+     * Creates a shader module from a SPIR-V binary in native byte order. The binary is passed to
+     * wgpu-native as is, so it can come straight from a memory mapped file, see [SpirvLoader].
+     */
+    fun createShaderModule(spirv: MemorySegment): ShaderModule {
+        SpirvLoader.validate(spirv)
+
+        return NativeArena.push().use { scope ->
+            val desc = WGPUShaderModuleDescriptor.allocate(scope)
+            val spirvDesc = WGPUShaderModuleSPIRVDescriptor.allocate(scope)
+            val spirvChain = WGPUShaderModuleSPIRVDescriptor.`chain$slice`(spirvDesc)
+
+            WGPUChainedStruct.`next$set`(spirvChain, CUtils.NULL)
+            WGPUChainedStruct.`sType$set`(spirvChain, WGPUSType_ShaderModuleSPIRVDescriptor())
+            WGPUShaderModuleSPIRVDescriptor.`code$set`(spirvDesc, spirv.address())
+            WGPUShaderModuleSPIRVDescriptor.`codeSize$set`(spirvDesc, (spirv.byteSize() / Int.SIZE_BYTES).toInt())
+            WGPUShaderModuleDescriptor.`nextInChain$set`(desc, spirvDesc.address())
+
+            ShaderModule(Id(wgpuDeviceCreateShaderModule(id, desc)))
+        }
+    }
+
+    /**
+     * Creates a shader module from a SPIR-V binary between the buffer's position and limit. Direct
+     * buffers are passed without copying, heap buffers are copied into native memory first.
+     */
+    fun createShaderModule(spirv: ByteBuffer): ShaderModule {
+        if (spirv.isDirect)
+            return createShaderModule(MemorySegment.ofByteBuffer(spirv))
+
+        return NativeArena.push().use { scope ->
+            val native = scope.allocate(spirv.remaining().toLong(), Int.SIZE_BYTES.toLong())
+            native.asByteBuffer().put(spirv.duplicate())
+
+            createShaderModule(native)
+        }
+    }
+
     actual fun createRenderPipeline(desc: RenderPipelineDescriptor): RenderPipeline {
-        return RenderPipeline(Id(NativeScope.unboundedScope().use { scope ->
-            val fragmentDesc = if (desc.fragment != null) {
-                val fragmentDesc = WGPUFragmentState.allocate(scope)
-                val targets = WGPUColorTargetState.allocateArray(desc.fragment.targets.size, scope)
-                desc.fragment.targets.forEachIndexed { index, target ->
-                    if (target.blendState == null)
-                        TODO("Null blend states are currently not supported")
-
-                    val blendState = WGPUBlendState.allocate(scope)
-                    val colorBlend = WGPUBlendState.`color$slice`(blendState)
-                    val alphaBlend = WGPUBlendState.`alpha$slice`(blendState)
-                    WGPUBlendComponent.`srcFactor$set`(colorBlend, target.blendState.color.srcFactor.nativeVal)
-                    WGPUBlendComponent.`dstFactor$set`(colorBlend, target.blendState.color.dstFactor.nativeVal)
-                    WGPUBlendComponent.`operation$set`(colorBlend, target.blendState.color.operation.nativeVal)
-                    WGPUBlendComponent.`srcFactor$set`(alphaBlend, target.blendState.alpha.srcFactor.nativeVal)
-                    WGPUBlendComponent.`dstFactor$set`(alphaBlend, target.blendState.alpha.dstFactor.nativeVal)
-                    WGPUBlendComponent.`operation$set`(alphaBlend, target.blendState.alpha.operation.nativeVal)
-
-                    WGPUColorTargetState.`format$set`(targets, index.toLong(), target.format.nativeVal)
-                    WGPUColorTargetState.`writeMask$set`(targets, index.toLong(), target.writeMask.toInt())
-                    WGPUColorTargetState.`blend$set`(targets, index.toLong(), blendState.address())
-                }
-                WGPUFragmentState.`entryPoint$set`(fragmentDesc, CLinker.toCString(desc.fragment.entryPoint).address())
-                WGPUFragmentState.`module$set`(fragmentDesc, desc.fragment.module.id.address())
-                WGPUFragmentState.`targets$set`(fragmentDesc, targets.address())
-                WGPUFragmentState.`targetCount$set`(fragmentDesc, desc.fragment.targets.size)
-
-                fragmentDesc
-            } else {
-                CUtils.NULL
+        return pipelineCache.getOrCreate(desc) { createRenderPipelineUncached(desc) }
+    }
+
+    private fun createRenderPipelineUncached(desc: RenderPipelineDescriptor): RenderPipeline {
+        return RenderPipeline(Id(NativeArena.push().use { scope ->
+            wgpuDeviceCreateRenderPipeline(id, marshalRenderPipeline(desc, scope))
+        }))
+    }
+
+    /**
+     * Compiles the pipeline on [compiler]'s workers, since wgpu-native's own asynchronous create
+     * compiles on the calling thread. Cached pipelines are returned without a thread switch.
+     */
+    actual suspend fun createRenderPipelineAsync(desc: RenderPipelineDescriptor): RenderPipeline {
+        return pipelineCache.get(desc) ?: compiler.createRenderPipeline(desc)
+    }
+
+    private fun marshalRenderPipeline(desc: RenderPipelineDescriptor, scope: NativeScope): MemorySegment {
+        val fragmentDesc = if (desc.fragment != null) {
+            val fragmentDesc = WGPUFragmentState.allocate(scope)
+            val targets = WGPUColorTargetState.allocateArray(desc.fragment.targets.size, scope)
+            desc.fragment.targets.forEachIndexed { index, target ->
+                if (target.blendState == null)
+                    TODO("Null blend states are currently not supported")
+
+                val blendState = WGPUBlendState.allocate(scope)
+                val colorBlend = WGPUBlendState.`color$slice`(blendState)
+                val alphaBlend = WGPUBlendState.`alpha$slice`(blendState)
+                WGPUBlendComponent.`srcFactor$set`(colorBlend, target.blendState.color.srcFactor.nativeVal)
+                WGPUBlendComponent.`dstFactor$set`(colorBlend, target.blendState.color.dstFactor.nativeVal)
+                WGPUBlendComponent.`operation$set`(colorBlend, target.blendState.color.operation.nativeVal)
+                WGPUBlendComponent.`srcFactor$set`(alphaBlend, target.blendState.alpha.srcFactor.nativeVal)
+                WGPUBlendComponent.`dstFactor$set`(alphaBlend, target.blendState.alpha.dstFactor.nativeVal)
+                WGPUBlendComponent.`operation$set`(alphaBlend, target.blendState.alpha.operation.nativeVal)
+
+                WGPUColorTargetState.`format$set`(targets, index.toLong(), target.format.nativeVal)
+                WGPUColorTargetState.`writeMask$set`(targets, index.toLong(), target.writeMask.toInt())
+                WGPUColorTargetState.`blend$set`(targets, index.toLong(), blendState.address())
             }
+            WGPUFragmentState.`entryPoint$set`(fragmentDesc, NativeStringPool.get(desc.fragment.entryPoint, scope))
+            WGPUFragmentState.`module$set`(fragmentDesc, desc.fragment.module.id.address())
+            WGPUFragmentState.`targets$set`(fragmentDesc, targets.address())
+            WGPUFragmentState.`targetCount$set`(fragmentDesc, desc.fragment.targets.size)
+
+            fragmentDesc
+        } else {
+            CUtils.NULL
+        }
 
-            val buffers = desc.vertex.buffers.mapToNativeEntries(
+        val buffers = desc.vertex.buffers.mapToNativeEntries(
+            scope,
+            WGPUVertexBufferLayout.sizeof(),
+            WGPUVertexBufferLayout::allocateArray,
+        ) {jvmBufferLayout, nativeBufferLayout ->
+            val attributes = jvmBufferLayout.attributes.mapToNativeEntries(
                 scope,
-                WGPUVertexBufferLayout.sizeof(),
-                WGPUVertexBufferLayout::allocateArray,
-            ) {jvmBufferLayout, nativeBufferLayout ->
-                val attributes = jvmBufferLayout.attributes.mapToNativeEntries(
-                    scope,
-                    WGPUVertexAttribute.sizeof(),
-                    WGPUVertexAttribute::allocateArray,
-                ) {jvmAttribute, nativeAttribute ->
-                    WGPUVertexAttribute.`shaderLocation$set`(nativeAttribute, jvmAttribute.shaderLocation)
-                    WGPUVertexAttribute.`format$set`(nativeAttribute, jvmAttribute.format.nativeVal)
-                    WGPUVertexAttribute.`offset$set`(nativeAttribute, jvmAttribute.offset)
-                }
-
-                WGPUVertexBufferLayout.`arrayStride$set`(nativeBufferLayout, jvmBufferLayout.arrayStride)
-                WGPUVertexBufferLayout.`stepMode$set`(nativeBufferLayout, jvmBufferLayout.stepMode.nativeVal)
-                WGPUVertexBufferLayout.`attributeCount$set`(nativeBufferLayout, jvmBufferLayout.attributes.size)
-                WGPUVertexBufferLayout.`attributes$set`(nativeBufferLayout, attributes.address())
+                WGPUVertexAttribute.sizeof(),
+                WGPUVertexAttribute::allocateArray,
+            ) {jvmAttribute, nativeAttribute ->
+                WGPUVertexAttribute.`shaderLocation$set`(nativeAttribute, jvmAttribute.shaderLocation)
+                WGPUVertexAttribute.`format$set`(nativeAttribute, jvmAttribute.format.nativeVal)
+                WGPUVertexAttribute.`offset$set`(nativeAttribute, jvmAttribute.offset)
             }
 
-            val descriptor = WGPURenderPipelineDescriptor.allocate(scope)
-            val vertexState = WGPURenderPipelineDescriptor.`vertex$slice`(descriptor)
-            val primitiveState = WGPURenderPipelineDescriptor.`primitive$slice`(descriptor)
-            val multisampleState = WGPURenderPipelineDescriptor.`multisample$slice`(descriptor)
+            WGPUVertexBufferLayout.`arrayStride$set`(nativeBufferLayout, jvmBufferLayout.arrayStride)
+            WGPUVertexBufferLayout.`stepMode$set`(nativeBufferLayout, jvmBufferLayout.stepMode.nativeVal)
+            WGPUVertexBufferLayout.`attributeCount$set`(nativeBufferLayout, jvmBufferLayout.attributes.size)
+            WGPUVertexBufferLayout.`attributes$set`(nativeBufferLayout, attributes.address())
+        }
 
-            WGPURenderPipelineDescriptor.`label$set`(descriptor, CUtils.NULL)
-            WGPURenderPipelineDescriptor.`layout$set`(descriptor, desc.layout.id.address())
+        val descriptor = WGPURenderPipelineDescriptor.allocate(scope)
+        val vertexState = WGPURenderPipelineDescriptor.`vertex$slice`(descriptor)
+        val primitiveState = WGPURenderPipelineDescriptor.`primitive$slice`(descriptor)
+        val multisampleState = WGPURenderPipelineDescriptor.`multisample$slice`(descriptor)
 
-            WGPUVertexState.`module$set`(vertexState, desc.vertex.module.id.address())
-            WGPUVertexState.`entryPoint$set`(vertexState, CLinker.toCString(desc.vertex.entryPoint).address())
-            WGPUVertexState.`buffers$set`(vertexState, buffers.address())
-            WGPUVertexState.`bufferCount$set`(vertexState, desc.vertex.buffers.size)
+        WGPURenderPipelineDescriptor.`label$set`(descriptor, CUtils.NULL)
+        WGPURenderPipelineDescriptor.`layout$set`(descriptor, desc.layout.id.address())
 
-            WGPUPrimitiveState.`topology$set`(primitiveState, desc.primitive.topology.nativeVal)
-            WGPUPrimitiveState.`stripIndexFormat$set`(
-                primitiveState,
-                (desc.primitive.stripIndexFormat?.nativeVal ?: WGPUIndexFormat_Undefined())
-            )
-            WGPUPrimitiveState.`frontFace$set`(primitiveState, WGPUFrontFace_CCW())
-            WGPUPrimitiveState.`cullMode$set`(primitiveState, desc.primitive.cullMode.nativeVal)
-
-            WGPUMultisampleState.`count$set`(multisampleState, desc.multisample.count)
-            WGPUMultisampleState.`mask$set`(multisampleState, desc.multisample.mask)
-            WGPUMultisampleState.`alphaToCoverageEnabled$set`(
-                multisampleState,
-                desc.multisample.alphaToCoverageEnabled.toNativeByte()
-            )
+        WGPUVertexState.`module$set`(vertexState, desc.vertex.module.id.address())
+        WGPUVertexState.`entryPoint$set`(vertexState, NativeStringPool.get(desc.vertex.entryPoint, scope))
+        WGPUVertexState.`buffers$set`(vertexState, buffers.address())
+        WGPUVertexState.`bufferCount$set`(vertexState, desc.vertex.buffers.size)
 
-            WGPURenderPipelineDescriptor.`fragment$set`(descriptor, fragmentDesc.address())
+        WGPUPrimitiveState.`topology$set`(primitiveState, desc.primitive.topology.nativeVal)
+        WGPUPrimitiveState.`stripIndexFormat$set`(
+            primitiveState,
+            (desc.primitive.stripIndexFormat?.nativeVal ?: WGPUIndexFormat_Undefined())
+        )
+        WGPUPrimitiveState.`frontFace$set`(primitiveState, WGPUFrontFace_CCW())
+        WGPUPrimitiveState.`cullMode$set`(primitiveState, desc.primitive.cullMode.nativeVal)
 
-            wgpuDeviceCreateRenderPipeline(id, descriptor)
-        }))
+        WGPUMultisampleState.`count$set`(multisampleState, desc.multisample.count)
+        WGPUMultisampleState.`mask$set`(multisampleState, desc.multisample.mask)
+        WGPUMultisampleState.`alphaToCoverageEnabled$set`(
+            multisampleState,
+            desc.multisample.alphaToCoverageEnabled.toNativeByte()
+        )
+
+        WGPURenderPipelineDescriptor.`fragment$set`(descriptor, fragmentDesc.address())
+
+        return descriptor
     }
 
     actual fun createPipelineLayout(desc: PipelineLayoutDescriptor): PipelineLayout {
-        return PipelineLayout(Id(NativeScope.unboundedScope().use { scope ->
+        return interner.intern(HandleInterner.structuralKey(desc)) { createPipelineLayoutUncached(desc) }
+    }
+
+    private fun createPipelineLayoutUncached(desc: PipelineLayoutDescriptor): PipelineLayout {
+        return PipelineLayout(Id(NativeArena.push().use { scope ->
             val descriptor = WGPUPipelineLayoutDescriptor.allocate(scope)
             WGPUPipelineLayoutDescriptor.`bindGroupLayouts$set`(descriptor, CUtils.copyToNativeArray(desc.ids, scope))
             WGPUPipelineLayoutDescriptor.`bindGroupLayoutCount$set`(descriptor, desc.ids.size)
@@ -264,7 +375,7 @@ actual class Device(val id: Id) {
     }
 
     actual fun createTexture(desc: TextureDescriptor): Texture {
-        return Texture(Id(NativeScope.unboundedScope().use { scope ->
+        val texture = Id(NativeArena.push().use { scope ->
             val descriptor = WGPUTextureDescriptor.allocate(scope)
             val size = WGPUTextureDescriptor.`size$slice`(descriptor)
 
@@ -278,35 +389,54 @@ actual class Device(val id: Id) {
             WGPUExtent3D.`depth$set`(size, desc.size.depth.toInt())
 
             wgpuDeviceCreateTexture(id, descriptor)
-        }))
+        })
+
+        resources.registerTexture(texture, desc)
+
+        return Texture(texture, destroyer.track("Texture$texture") {
+            resources.unregister(texture)
+            wgpuTextureDestroy(texture)
+        })
     }
 
     actual fun createCommandEncoder(): CommandEncoder {
-        return CommandEncoder(Id(NativeScope.unboundedScope().use { scope ->
+        return CommandEncoder(Id(NativeArena.push().use { scope ->
             val desc = WGPUCommandEncoderDescriptor.allocate(scope)
-            WGPUCommandEncoderDescriptor.`label$set`(desc, CLinker.toCString("CommandEncoder", scope).address())
+            WGPUCommandEncoderDescriptor.`label$set`(desc, NativeStringPool.get("CommandEncoder", scope))
             wgpuDeviceCreateCommandEncoder(id, desc.address())
         }))
     }
 
     actual fun getDefaultQueue(): Queue {
-        return Queue(Id(wgpuDeviceGetQueue(id)))
+        return Queue(Id(wgpuDeviceGetQueue(id)), this)
     }
 
     actual fun createBuffer(desc: BufferDescriptor): Buffer {
-        return Buffer(Id(NativeScope.unboundedScope().use { scope ->
+        val buffer = Id(NativeArena.push().use { scope ->
             val descriptor = WGPUBufferDescriptor.allocate(scope)
             WGPUBufferDescriptor.`nextInChain$set`(descriptor, CUtils.NULL)
+            WGPUBufferDescriptor.`label$set`(descriptor, CLinker.toCString(desc.label, scope).address())
             WGPUBufferDescriptor.`usage$set`(descriptor, desc.usage)
             WGPUBufferDescriptor.`size$set`(descriptor, desc.size)
             WGPUBufferDescriptor.`mappedAtCreation$set`(descriptor, desc.mappedAtCreation.toNativeByte())
 
             wgpuDeviceCreateBuffer(id, descriptor)
-        }), desc.size)
+        })
+
+        resources.registerBuffer(buffer, desc)
+
+        return Buffer(buffer, desc.size, destroyer.track("Buffer$buffer") {
+            resources.unregister(buffer)
+            wgpuBufferDestroy(buffer)
+        })
     }
 
     actual fun createBindGroupLayout(desc: BindGroupLayoutDescriptor): BindGroupLayout {
-        return BindGroupLayout(Id(NativeScope.unboundedScope().use { scope ->
+        return interner.intern(HandleInterner.structuralKey(desc)) { createBindGroupLayoutUncached(desc) }
+    }
+
+    private fun createBindGroupLayoutUncached(desc: BindGroupLayoutDescriptor): BindGroupLayout {
+        return BindGroupLayout(Id(NativeArena.push().use { scope ->
             val descriptor = WGPUBindGroupLayoutDescriptor.allocate(scope)
             val entries = desc.entries.mapToNativeEntries(
                 scope,
@@ -345,7 +475,7 @@ actual class Device(val id: Id) {
     }
 
     actual fun createBindGroup(desc: BindGroupDescriptor): BindGroup {
-        return BindGroup(Id(NativeScope.unboundedScope().use { scope ->
+        return BindGroup(Id(NativeArena.push().use { scope ->
             val descriptor = WGPUBindGroupDescriptor.allocate(scope)
             val entries = desc.entries.mapToNativeEntries(
                 scope,
@@ -365,7 +495,11 @@ actual class Device(val id: Id) {
     }
 
     actual fun createSampler(desc: SamplerDescriptor): Sampler {
-        return Sampler(Id(NativeScope.unboundedScope().use { scope ->
+        return interner.intern(HandleInterner.structuralKey(desc)) { createSamplerUncached(desc) }
+    }
+
+    private fun createSamplerUncached(desc: SamplerDescriptor): Sampler {
+        return Sampler(Id(NativeArena.push().use { scope ->
             val descriptor = WGPUSamplerDescriptor.allocate(scope)
 
             WGPUSamplerDescriptor.`addressModeU$set`(descriptor, desc.addressModeU.nativeVal)
@@ -384,20 +518,78 @@ actual class Device(val id: Id) {
     }
 
     actual fun createComputePipeline(desc: ComputePipelineDescriptor): ComputePipeline {
-        return ComputePipeline(Id(NativeScope.unboundedScope().use { scope ->
-            val descriptor = WGPUComputePipelineDescriptor.allocate(scope)
-            val stage = WGPUComputePipelineDescriptor.`computeStage$slice`(descriptor)
-
-            WGPUComputePipelineDescriptor.`layout$set`(descriptor, desc.layout.id.address())
-            WGPUProgrammableStageDescriptor.`module$set`(stage, desc.computeStage.module.id.address())
-            WGPUProgrammableStageDescriptor.`entryPoint$set`(
-                stage,
-                CLinker.toCString(desc.computeStage.entryPoint, scope).address()
-            )
+        return pipelineCache.getOrCreate(desc) { createComputePipelineUncached(desc) }
+    }
 
-            wgpuDeviceCreateComputePipeline(id, descriptor.address())
+    private fun createComputePipelineUncached(desc: ComputePipelineDescriptor): ComputePipeline {
+        return ComputePipeline(Id(NativeArena.push().use { scope ->
+            wgpuDeviceCreateComputePipeline(id, marshalComputePipeline(desc, scope))
         }))
     }
+
+    /** See [createRenderPipelineAsync] */
+    actual suspend fun createComputePipelineAsync(desc: ComputePipelineDescriptor): ComputePipeline {
+        return pipelineCache.get(desc) ?: compiler.createComputePipeline(desc)
+    }
+
+    private fun marshalComputePipeline(desc: ComputePipelineDescriptor, scope: NativeScope): MemorySegment {
+        val descriptor = WGPUComputePipelineDescriptor.allocate(scope)
+        val stage = WGPUComputePipelineDescriptor.`computeStage$slice`(descriptor)
+
+        WGPUComputePipelineDescriptor.`layout$set`(descriptor, desc.layout.id.address())
+        WGPUProgrammableStageDescriptor.`module$set`(stage, desc.computeStage.module.id.address())
+        WGPUProgrammableStageDescriptor.`entryPoint$set`(
+            stage,
+            NativeStringPool.get(desc.computeStage.entryPoint, scope)
+        )
+
+        return descriptor
+    }
+
+    actual fun createQuerySet(desc: QuerySetDescriptor): QuerySet {
+        val querySet = Id(NativeArena.push().use { scope ->
+            val descriptor = WGPUQuerySetDescriptor.allocate(scope)
+            val statistics = desc.pipelineStatistics.map { it.nativeVal }.toIntArray()
+
+            WGPUQuerySetDescriptor.`type$set`(descriptor, desc.type.nativeVal)
+            WGPUQuerySetDescriptor.`count$set`(descriptor, desc.count)
+            WGPUQuerySetDescriptor.`pipelineStatistics$set`(
+                descriptor,
+                CUtils.copyToNativeArray(statistics, scope)
+            )
+            WGPUQuerySetDescriptor.`pipelineStatisticsCount$set`(descriptor, statistics.size)
+
+            wgpuDeviceCreateQuerySet(id, descriptor)
+        })
+
+        return QuerySet(
+            querySet,
+            desc.type,
+            desc.count,
+            destroyer.track("QuerySet$querySet") { wgpuQuerySetDestroy(querySet) }
+        )
+    }
+
+    actual fun createRenderBundleEncoder(desc: RenderBundleEncoderDescriptor): RenderBundleEncoder {
+        return RenderBundleEncoder(NativeArena.push().use { scope ->
+            val descriptor = WGPURenderBundleEncoderDescriptor.allocate(scope)
+            val colorFormats = desc.colorFormats.map { it.nativeVal }.toIntArray()
+
+            WGPURenderBundleEncoderDescriptor.`label$set`(descriptor, CUtils.NULL)
+            WGPURenderBundleEncoderDescriptor.`colorFormats$set`(
+                descriptor,
+                CUtils.copyToNativeArray(colorFormats, scope)
+            )
+            WGPURenderBundleEncoderDescriptor.`colorFormatsCount$set`(descriptor, colorFormats.size)
+            WGPURenderBundleEncoderDescriptor.`depthStencilFormat$set`(
+                descriptor,
+                desc.depthStencilFormat?.nativeVal ?: WGPUTextureFormat_Undefined()
+            )
+            WGPURenderBundleEncoderDescriptor.`sampleCount$set`(descriptor, desc.sampleCount)
+
+            wgpuDeviceCreateRenderBundleEncoder(id, descriptor)
+        })
+    }
 }
 
 actual class ShaderModule(val id: Id) {
@@ -431,14 +623,18 @@ actual constructor(
 ) {
 }
 
-actual class Texture(val id: Id) {
+actual class Texture(val id: Id, private val lifetime: DeferredDestroyer.Lifetime? = null) {
+
+    init {
+        lifetime?.register(this)
+    }
 
     override fun toString(): String {
         return "Texture$id"
     }
 
     actual fun createView(desc: TextureViewDescriptor?): TextureView {
-        return TextureView(Id(NativeScope.unboundedScope().use { scope ->
+        return TextureView(Id(NativeArena.push().use { scope ->
             val descriptor = WGPUTextureViewDescriptor.allocate(scope)
             WGPUTextureViewDescriptor.`format$set`(descriptor, desc?.format?.nativeVal ?: WGPUTextureFormat_Undefined())
             WGPUTextureViewDescriptor.`dimension$set`(
@@ -455,8 +651,9 @@ actual class Texture(val id: Id) {
         }))
     }
 
+    /** Destroys the texture once the work submitted so far has finished */
     actual fun destroy() {
-        wgpuTextureDestroy(id)
+        if (lifetime != null) lifetime.destroy() else wgpuTextureDestroy(id)
     }
 }
 
@@ -483,22 +680,37 @@ actual class TextureView(val id: Id) : IntoBindingResource {
 }
 
 actual class SwapChainDescriptor
-actual constructor(val device: Device, val format: TextureFormat, val usage: Long)
+actual constructor(
+    val device: Device,
+    val format: TextureFormat,
+    val usage: Long,
+    val presentMode: PresentMode
+)
 
-actual class SwapChain(val id: Id, private val window: Window) {
+actual class SwapChain(val id: Id, private val window: Window, actual val requestedPresentMode: PresentMode) {
 
     private val size = window.windowSize
+    private var acquireTime = 0L
+    actual var onPresent: (acquireToPresentNanos: Long) -> Unit = {}
 
     override fun toString(): String {
         return "SwapChain$id"
     }
 
     actual fun getCurrentTextureView(): TextureView {
+        acquireTime = System.nanoTime()
+
         return TextureView(Id(wgpuSwapChainGetCurrentTextureView(id)))
     }
 
     actual fun present() {
         wgpuSwapChainPresent(id)
+        NativeArena.endFrame()
+
+        if (acquireTime != 0L) {
+            onPresent(System.nanoTime() - acquireTime)
+            acquireTime = 0
+        }
     }
 
     actual fun isOutOfDate(): Boolean {
@@ -506,24 +718,152 @@ actual class SwapChain(val id: Id, private val window: Window) {
     }
 }
 
-actual class Queue(val id: Id) {
+actual class Queue(val id: Id, private val device: Device) {
 
     override fun toString(): String {
         return "Queue$id"
     }
 
     actual fun submit(vararg cmdBuffers: CommandBuffer) {
-        NativeScope.unboundedScope().use { scope ->
+        NativeArena.push().use { scope ->
             val bufferIds = CUtils.copyToNativeArray(cmdBuffers.map { it.id.id }.toLongArray(), scope)
 
             wgpuQueueSubmit(id, cmdBuffers.size, bufferIds)
         }
+
+        device.destroyer.submitted()
     }
 
+    actual suspend fun onSubmittedWorkDone() {
+        val status = device.poller.await { userdata ->
+            wgpuQueueOnSubmittedWorkDone(id, 0, WORK_DONE_CALLBACK, userdata)
+        }
+
+        if (status != WGPUQueueWorkDoneStatus_Success())
+            throw RuntimeException("Failed to wait for submitted work: status $status")
+    }
+
+    /**
+     * Returns a future that completes with the callback status once the work submitted so far
+     * has finished. Unlike [onSubmittedWorkDone] this can be waited on outside of a coroutine.
+     */
+    fun submittedWorkDone(): CompletableFuture<Int> {
+        return submittedWorkDone(false)
+    }
+
+    /** See [DevicePoller.enqueue] for what a background request is */
+    internal fun submittedWorkDone(background: Boolean): CompletableFuture<Int> {
+        val future = CompletableFuture<Int>()
+        device.poller.enqueue({ userdata ->
+            wgpuQueueOnSubmittedWorkDone(id, 0, WORK_DONE_CALLBACK, userdata)
+        }, background) { status, _ -> future.complete(status) }
+
+        return future
+    }
+
+    internal val poller: DevicePoller
+        get() = device.poller
+
     actual fun writeBuffer(
         buffer: Buffer, data: ByteArray, offset: Long, dataOffset: Long, size: Long
     ) {
-        TODO()
+        writeBuffer(buffer, MemorySegment.ofArray(data).asSlice(dataOffset, size), offset)
+    }
+
+    actual fun writeBuffer(
+        buffer: Buffer, data: FloatArray, offset: Long, dataOffset: Long, size: Long
+    ) {
+        val bytes = MemorySegment.ofArray(data)
+            .asSlice(dataOffset * Primitives.FLOAT_BYTES, size * Primitives.FLOAT_BYTES)
+        writeBuffer(buffer, bytes, offset)
+    }
+
+    actual fun writeBuffer(
+        buffer: Buffer, data: IntArray, offset: Long, dataOffset: Long, size: Long
+    ) {
+        val bytes = MemorySegment.ofArray(data)
+            .asSlice(dataOffset * Primitives.INT_BYTES, size * Primitives.INT_BYTES)
+        writeBuffer(buffer, bytes, offset)
+    }
+
+    actual fun writeTexture(
+        destination: TextureCopyView,
+        data: ByteArray,
+        bytesPerRow: Int,
+        size: Extent3D,
+        rowsPerImage: Int,
+        dataOffset: Long
+    ) {
+        val bytes = MemorySegment.ofArray(data).asSlice(dataOffset)
+        writeTexture(destination, bytes, bytesPerRow, size, rowsPerImage)
+    }
+
+    /**
+     * Writes texel data to a region of a texture. See [writeTexture]. Native segments are passed
+     * to wgpu-native without being copied, which avoids a copy per frame for streamed textures.
+     */
+    fun writeTexture(
+        destination: TextureCopyView,
+        data: MemorySegment,
+        bytesPerRow: Int,
+        size: Extent3D,
+        rowsPerImage: Int = 0
+    ) {
+        NativeArena.push().use { scope ->
+            val native = if (data.isNative) {
+                data
+            } else {
+                scope.allocate(data.byteSize()).also { it.copyFrom(data) }
+            }
+            val layout = WGPUTextureDataLayout.allocate(scope)
+            WGPUTextureDataLayout.`offset$set`(layout, 0)
+            WGPUTextureDataLayout.`bytesPerRow$set`(layout, bytesPerRow)
+            WGPUTextureDataLayout.`rowsPerImage$set`(
+                layout,
+                if (rowsPerImage == 0) size.height.toInt() else rowsPerImage
+            )
+
+            wgpuQueueWriteTexture(
+                id,
+                destination.toNative(scope),
+                native,
+                native.byteSize(),
+                layout,
+                size.toNative(scope)
+            )
+        }
+    }
+
+    /**
+     * Writes the remaining bytes of [data] to the buffer. Direct buffers are passed to wgpu-native
+     * without being copied.
+     */
+    fun writeBuffer(buffer: Buffer, data: ByteBuffer, offset: Long = 0) {
+        writeBuffer(buffer, MemorySegment.ofByteBuffer(data), offset)
+    }
+
+    /**
+     * Writes all of [data] to the buffer. Native segments are passed to wgpu-native without being
+     * copied, heap segments are copied into the native arena of the calling thread.
+     */
+    fun writeBuffer(buffer: Buffer, data: MemorySegment, offset: Long = 0) {
+        if (data.isNative) {
+            wgpuQueueWriteBuffer(id, buffer.id, offset, data, data.byteSize())
+            return
+        }
+
+        NativeArena.push().use { scope ->
+            val native = scope.allocate(data.byteSize())
+            native.copyFrom(data)
+
+            wgpuQueueWriteBuffer(id, buffer.id, offset, native, data.byteSize())
+        }
+    }
+
+    companion object {
+        private val WORK_DONE_CALLBACK = WGPUQueueWorkDoneCallback.allocate { status, userdata ->
+            DevicePoller.complete(userdata, status)
+        }
     }
 }
 
@@ -533,7 +873,15 @@ actual constructor(
 ) {
 }
 
-actual class Buffer(val id: Id, actual val size: Long) : IntoBindingResource {
+actual class Buffer(
+    val id: Id,
+    actual val size: Long,
+    private val lifetime: DeferredDestroyer.Lifetime? = null
+) : IntoBindingResource {
+
+    init {
+        lifetime?.register(this)
+    }
 
     override fun intoBindingResource(entry: MemorySegment) {
         TODO()
@@ -554,17 +902,35 @@ actual class Buffer(val id: Id, actual val size: Long) : IntoBindingResource {
         wgpuBufferUnmap(id)
     }
 
+    /** Destroys the buffer once the work submitted so far has finished */
     actual fun destroy() {
-        println("Warning: wgpuBufferDestroy currently not implemented")
-//        wgpuBufferDestroy(id)
+        if (lifetime != null) lifetime.destroy() else wgpuBufferDestroy(id)
     }
 
     actual suspend fun mapReadAsync(device: Device): BufferData {
-        val callback = WGPUBufferMapCallback.allocate { _, _ -> }
-        wgpuBufferMapAsync(id.address(), WGPUMapMode_Read(), 0, size, callback, CUtils.NULL)
-        wgpuDevicePoll(device.id.address(), true.toNativeByte())
+        return mapAsync(device, MapMode.READ)
+    }
+
+    actual suspend fun mapWriteAsync(device: Device): BufferData {
+        return mapAsync(device, MapMode.WRITE)
+    }
+
+    actual suspend fun mapAsync(device: Device, mode: Int, offset: Long, size: Long): BufferData {
+        val status = device.poller.await { userdata ->
+            wgpuBufferMapAsync(id.address(), mode, offset, size, MAP_CALLBACK, userdata)
+        }
 
-        return getMappedData(0, size)
+        if (status != WGPUBufferMapAsyncStatus_Success())
+            throw RuntimeException("Failed to map $this: status $status")
+
+        return getMappedData(offset, size)
+    }
+
+    companion object {
+        // Shared so that every map does not leak a new upcall stub
+        private val MAP_CALLBACK = WGPUBufferMapCallback.allocate { status, userdata ->
+            DevicePoller.complete(userdata, status)
+        }
     }
 }
 
@@ -34,9 +34,9 @@ actual class Window actual constructor() {
         val osHandle = GlfwHandler.getOsWindowHandle(handle)
         surface =
             Id(when {
-                Platform.isWindows -> {
-                    val desc = WGPUSurfaceDescriptor.allocate()
-                    val windowsDesc = WGPUSurfaceDescriptorFromWindowsHWND.allocate()
+                Platform.isWindows -> NativeArena.push().use { scope ->
+                    val desc = WGPUSurfaceDescriptor.allocate(scope)
+                    val windowsDesc = WGPUSurfaceDescriptorFromWindowsHWND.allocate(scope)
                     WGPUSurfaceDescriptorFromWindowsHWND.`hwnd$set`(
                         windowsDesc,
                         MemoryAddress.ofLong(osHandle)
@@ -70,20 +70,22 @@ actual class Window actual constructor() {
                     // [ns_window.contentView setLayer:metal_layer];
                     invokePPPP(contentView, sel_getUid("setLayer:"), metal_layer, objc_msgSend)
 
-                    val desc = WGPUSurfaceDescriptor.allocate()
-                    val metalDesc = WGPUSurfaceDescriptorFromMetalLayer.allocate()
-                    WGPUSurfaceDescriptorFromMetalLayer.`layer$set`(
-                        metalDesc,
-                        MemoryAddress.ofLong(metal_layer)
-                    )
-                    WGPUChainedStruct.`sType$set`(
-                        WGPUSurfaceDescriptorFromMetalLayer.`chain$slice`(metalDesc),
-                        WGPUSType_SurfaceDescriptorFromMetalLayer()
-                    )
-                    WGPUSurfaceDescriptor.`label$set`(desc, CUtils.NULL)
-                    WGPUSurfaceDescriptor.`nextInChain$set`(desc, metalDesc.address())
-
-                    wgpuInstanceCreateSurface(CUtils.NULL, desc.address())
+                    NativeArena.push().use { scope ->
+                        val desc = WGPUSurfaceDescriptor.allocate(scope)
+                        val metalDesc = WGPUSurfaceDescriptorFromMetalLayer.allocate(scope)
+                        WGPUSurfaceDescriptorFromMetalLayer.`layer$set`(
+                            metalDesc,
+                            MemoryAddress.ofLong(metal_layer)
+                        )
+                        WGPUChainedStruct.`sType$set`(
+                            WGPUSurfaceDescriptorFromMetalLayer.`chain$slice`(metalDesc),
+                            WGPUSType_SurfaceDescriptorFromMetalLayer()
+                        )
+                        WGPUSurfaceDescriptor.`label$set`(desc, CUtils.NULL)
+                        WGPUSurfaceDescriptor.`nextInChain$set`(desc, metalDesc.address())
+
+                        wgpuInstanceCreateSurface(CUtils.NULL, desc.address())
+                    }
                 }
                 else -> {
                     println(
@@ -182,15 +184,17 @@ actual class Window actual constructor() {
     }
 
     actual fun configureSwapChain(desc: SwapChainDescriptor): SwapChain {
-        return NativeScope.unboundedScope().use {
-            val nativeDesc = WGPUSwapChainDescriptor.allocate()
+        val presentMode = KgpuProperties.presentMode ?: desc.presentMode
+
+        return NativeArena.push().use { scope ->
+            val nativeDesc = WGPUSwapChainDescriptor.allocate(scope)
             WGPUSwapChainDescriptor.`format$set`(nativeDesc, desc.format.nativeVal)
             WGPUSwapChainDescriptor.`usage$set`(nativeDesc, desc.usage.toInt())
-            WGPUSwapChainDescriptor.`presentMode$set`(nativeDesc, WGPUPresentMode_Fifo())
+            WGPUSwapChainDescriptor.`presentMode$set`(nativeDesc, presentMode.nativeVal)
             WGPUSwapChainDescriptor.`width$set`(nativeDesc, windowSize.width)
             WGPUSwapChainDescriptor.`height$set`(nativeDesc, windowSize.height)
 
-            SwapChain(Id(wgpuDeviceCreateSwapChain(desc.device.id, surface, nativeDesc)), this)
+            SwapChain(Id(wgpuDeviceCreateSwapChain(desc.device.id, surface, nativeDesc)), this, presentMode)
         }
     }
 
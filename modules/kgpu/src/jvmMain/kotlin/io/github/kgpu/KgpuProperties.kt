@@ -0,0 +1,86 @@
+package io.github.kgpu
+
+/**
+ * The `kgpu.*` system properties that tune the desktop backend. Each property is read once, the
+ * first time this object is used. A value that cannot be parsed, or is out of range, prints a
+ * warning and falls back to the default instead of failing initialization.
+ *
+ * `kgpu.linking=eager` links every native function on startup instead of on first use. It is read
+ * by the generated bindings themselves, which cannot depend on this object.
+ */
+internal object KgpuProperties {
+    private const val PREFIX = "kgpu."
+
+    /** `kgpu.arenaSize`: the initial size in bytes of each thread's [NativeArena] */
+    val arenaSize = longProperty("arenaSize", 64 * 1024L, min = 1)
+
+    /** `kgpu.stringPoolSize`: the most strings the [NativeStringPool] will intern */
+    val stringPoolSize = intProperty("stringPoolSize", 1024, min = 0)
+
+    /** `kgpu.pipelineCacheSize`: the most pipelines of each kind a [PipelineCache] keeps, 0 disables it */
+    val pipelineCacheSize = intProperty("pipelineCacheSize", 256, min = 0)
+
+    /** `kgpu.internHandles`: whether identical layouts and samplers share a handle, see [HandleInterner] */
+    val internHandles = booleanProperty("internHandles", true)
+
+    /** `kgpu.compilerThreads`: the number of threads of each [PipelineCompiler] */
+    val compilerThreads = intProperty("compilerThreads", maxOf(1, Runtime.getRuntime().availableProcessors() / 2), min = 1)
+
+    /** `kgpu.pollInterval`: the microseconds the [DevicePoller] waits between polls while work is pending */
+    val pollInterval = longProperty("pollInterval", 500, min = 0)
+
+    /** `kgpu.presentMode`: overrides the present mode of every swap chain */
+    val presentMode = enumProperty<PresentMode>("presentMode")
+
+    /** `kgpu.filterRedundantState`: whether pass encoders skip state that is already bound, see [PassStateFilter] */
+    val filterRedundantState = booleanProperty("filterRedundantState", true)
+
+    /** `kgpu.trackCreationSites`: whether the [ResourceRegistry] records where each resource was created */
+    val trackCreationSites = booleanProperty("trackCreationSites", false)
+
+    /** `kgpu.trackNativeMemory`: whether the [NativeMemoryTracker] accounts for host allocations */
+    val trackNativeMemory = booleanProperty("trackNativeMemory", false)
+
+    /** `kgpu.skipLibraryPath`: whether the [SharedLibraryLoader] ignores copies on java.library.path */
+    val skipLibraryPath = booleanProperty("skipLibraryPath", false)
+
+    private fun booleanProperty(name: String, default: Boolean): Boolean {
+        return parse(name, default, "true or false") { value ->
+            when {
+                value.equals("true", ignoreCase = true) -> true
+                value.equals("false", ignoreCase = true) -> false
+                else -> null
+            }
+        }
+    }
+
+    private fun intProperty(name: String, default: Int, min: Int): Int {
+        return parse(name, default, "an integer of at least $min") { value ->
+            value.trim().toIntOrNull()?.takeIf { it >= min }
+        }
+    }
+
+    private fun longProperty(name: String, default: Long, min: Long): Long {
+        return parse(name, default, "an integer of at least $min") { value ->
+            value.trim().toLongOrNull()?.takeIf { it >= min }
+        }
+    }
+
+    private inline fun <reified T : Enum<T>> enumProperty(name: String): T? {
+        val values = enumValues<T>()
+        return parse(name, null, "one of ${values.joinToString()}") { value ->
+            values.firstOrNull { it.name.equals(value.trim(), ignoreCase = true) }
+        }
+    }
+
+    private inline fun <T> parse(name: String, default: T, expected: String, parser: (String) -> T?): T {
+        val value = System.getProperty(PREFIX + name) ?: return default
+        val parsed = parser(value)
+        if (parsed == null) {
+            println("Warning: Ignoring $PREFIX$name=$value, expected $expected")
+            return default
+        }
+
+        return parsed
+    }
+}
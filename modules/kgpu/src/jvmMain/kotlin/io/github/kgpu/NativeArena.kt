@@ -0,0 +1,190 @@
+package io.github.kgpu
+
+import jdk.incubator.foreign.MemorySegment
+import jdk.incubator.foreign.NativeScope
+import java.lang.ref.Cleaner
+import java.util.OptionalLong
+
+/**
+ * A per-thread bump allocator used to marshal descriptors into native memory. The backing memory
+ * is allocated once per thread and then reused, so the steady state frame path does not need to
+ * call malloc. Works like LWJGL's MemoryStack:
+ *
+ * ```
+ * NativeArena.push().use { scope ->
+ *     val desc = WGPUCommandEncoderDescriptor.allocate(scope)
+ *     ...
+ * }
+ * ```
+ *
+ * Allocations that do not fit in the arena fall back to an unbounded [NativeScope] which is freed
+ * when the frame that requested it is popped. The size of the arena can be set with the
+ * `kgpu.arenaSize` system property, and [highWaterMark] can be used to pick a size.
+ *
+ * The memory of an arena is freed by a [Cleaner] once its thread has exited. Threads that are
+ * reused, such as pool workers, can free it earlier with [release].
+ *
+ * __Note:__ Upcall stubs (callbacks) must not be allocated with an arena because they are handed
+ * off to the scope, which is only supported for scopes created by [NativeScope].
+ */
+class NativeArena internal constructor(val capacity: Long) : NativeScope {
+    // Shared so that the cleaner can free it from its own thread
+    private val memory = MemorySegment.allocateNative(capacity, ALIGNMENT).share()
+    private val owner = Thread.currentThread()
+    private val cleanable = CLEANER.register(this, Release(memory, capacity))
+    private val frames = LongArray(MAX_DEPTH)
+    private val overflowScopes = arrayOfNulls<NativeScope>(MAX_DEPTH)
+    private val overflowAllocations = arrayOfNulls<MutableList<Pair<String, Long>>>(MAX_DEPTH)
+    private var depth = 0
+    private var offset = 0L
+
+    init {
+        NativeMemoryTracker.allocated("NativeArena", capacity)
+    }
+
+    // Must not reference the arena, or the arena would never become unreachable
+    private class Release(private val memory: MemorySegment, private val capacity: Long) : Runnable {
+        override fun run() {
+            memory.close()
+            NativeMemoryTracker.freed("NativeArena", capacity)
+        }
+    }
+
+    /** The most bytes that have been in use at once since the arena was created */
+    var highWaterMark = 0L
+        private set
+
+    /** The most bytes that have been in use at once since the last call to [endFrame] */
+    var frameHighWaterMark = 0L
+        private set
+
+    /** The number of allocations that did not fit in the arena and had to use malloc */
+    var overflowCount = 0L
+        private set
+
+    fun push(): NativeArena {
+        if (depth == MAX_DEPTH)
+            throw IllegalStateException("Native arena frames are nested too deeply (max $MAX_DEPTH)")
+
+        frames[depth++] = offset
+        return this
+    }
+
+    fun pop() {
+        if (depth == 0)
+            throw IllegalStateException("Native arena popped more frames than were pushed")
+
+        depth--
+        offset = frames[depth]
+        overflowScopes[depth]?.close()
+        overflowScopes[depth] = null
+        overflowAllocations[depth]?.forEach { (site, bytes) -> NativeMemoryTracker.freed(site, bytes) }
+        overflowAllocations[depth] = null
+    }
+
+    override fun allocate(bytesSize: Long, bytesAlignment: Long): MemorySegment {
+        if (depth == 0)
+            throw IllegalStateException("NativeArena.push() must be called before allocating")
+        if (java.lang.Long.bitCount(bytesAlignment) != 1)
+            throw IllegalArgumentException("Alignment must be a power of two: $bytesAlignment")
+
+        val start = (offset + bytesAlignment - 1) and (bytesAlignment - 1).inv()
+        val end = start + bytesSize
+        if (end > capacity) {
+            return allocateOverflow(bytesSize, bytesAlignment)
+        }
+
+        offset = end
+        if (end > frameHighWaterMark) frameHighWaterMark = end
+        if (end > highWaterMark) highWaterMark = end
+
+        // Descriptors rely on unset fields being zero, so recycled memory must be cleared
+        val segment = memory.asSlice(start, bytesSize)
+        segment.fill(0)
+
+        return segment
+    }
+
+    private fun allocateOverflow(bytesSize: Long, bytesAlignment: Long): MemorySegment {
+        val index = depth - 1
+        val scope = overflowScopes[index] ?: NativeScope.unboundedScope()
+        overflowScopes[index] = scope
+        overflowCount++
+
+        if (NativeMemoryTracker.enabled) {
+            val site = NativeMemoryTracker.callSite()
+            NativeMemoryTracker.allocated(site, bytesSize)
+            overflowAllocations[index] = (overflowAllocations[index] ?: mutableListOf()).apply { add(Pair(site, bytesSize)) }
+        }
+
+        return scope.allocate(bytesSize, bytesAlignment)
+    }
+
+    override fun byteSize(): OptionalLong {
+        return OptionalLong.empty()
+    }
+
+    override fun ownerThread(): Thread {
+        return owner
+    }
+
+    override fun allocatedBytes(): Long {
+        return offset
+    }
+
+    /** Pops the current frame. This allows an arena to be used with `use {}` */
+    override fun close() {
+        pop()
+    }
+
+    /** Pops every frame that is still pushed, like [endFrame] does for the current thread */
+    internal fun popAll() {
+        while (depth > 0) {
+            pop()
+        }
+        frameHighWaterMark = 0
+    }
+
+    override fun toString(): String {
+        return "NativeArena(capacity = $capacity, highWaterMark = $highWaterMark, overflows = $overflowCount)"
+    }
+
+    companion object {
+        private const val ALIGNMENT = 16L
+        private const val MAX_DEPTH = 16
+
+        private val CLEANER = Cleaner.create()
+        private val arenas = ThreadLocal<NativeArena>()
+
+        /** Returns the arena for the current thread */
+        fun get(): NativeArena {
+            return arenas.get() ?: NativeArena(KgpuProperties.arenaSize)
+                .also { arenas.set(it) }
+        }
+
+        /** Pushes a new frame onto the arena of the current thread */
+        fun push(): NativeArena {
+            return get().push()
+        }
+
+        /**
+         * Frees the arena of the current thread. A later [push] on the thread allocates a new
+         * arena. Does nothing if the thread has no arena.
+         */
+        fun release() {
+            val arena = arenas.get() ?: return
+            arenas.remove()
+            arena.popAll()
+            arena.cleanable.clean()
+        }
+
+        /**
+         * Marks the end of a frame for the current thread. Any frames that were not popped are
+         * released and the per frame high water mark is reset. This is called by
+         * [SwapChain.present], but can be called manually by applications without a swap chain.
+         */
+        fun endFrame() {
+            get().popAll()
+        }
+    }
+}
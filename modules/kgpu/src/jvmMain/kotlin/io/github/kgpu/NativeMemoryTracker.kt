@@ -0,0 +1,102 @@
+package io.github.kgpu
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Opt-in accounting of the host memory kgpu allocates for marshalling, enabled with the
+ * `kgpu.trackNativeMemory` system property. Outstanding bytes are tracked per allocation site, so a
+ * site that keeps growing points at a leak.
+ *
+ * Tracked allocations are the arena of each thread, allocations that overflow an arena, and the
+ * strings in the [NativeStringPool]. A steady state frame should not grow any of them, which tests
+ * can check with [assertNoGrowth]:
+ * ```
+ * NativeMemoryTracker.assertNoGrowth(frames = 10) { renderFrame() }
+ * ```
+ */
+object NativeMemoryTracker {
+    private const val BINDINGS_PACKAGE = "io.github.kgpu.wgpuj."
+    private val INTERNAL_CLASSES = setOf(
+        NativeMemoryTracker::class.java.name,
+        NativeArena::class.java.name,
+        NativeArena.Companion::class.java.name,
+        "kotlin.io.CloseableKt"
+    )
+
+    val enabled = KgpuProperties.trackNativeMemory
+
+    private val sites = ConcurrentHashMap<String, AtomicLong>()
+    private val allocationCount = AtomicLong()
+    private val walker = StackWalker.getInstance()
+
+    /** The bytes allocated and not yet freed, over every site */
+    val outstandingBytes: Long
+        get() = sites.values.sumOf { it.get() }
+
+    /** The number of allocations that have been tracked */
+    val allocations: Long
+        get() = allocationCount.get()
+
+    /** Returns the outstanding bytes of every site that still holds memory */
+    fun outstandingBySite(): Map<String, Long> {
+        return sites.mapValues { it.value.get() }.filterValues { it != 0L }
+    }
+
+    internal fun allocated(site: String, bytes: Long) {
+        if (!enabled)
+            return
+
+        allocationCount.incrementAndGet()
+        sites.computeIfAbsent(site) { AtomicLong() }.addAndGet(bytes)
+    }
+
+    internal fun freed(site: String, bytes: Long) {
+        if (!enabled)
+            return
+
+        sites[site]?.addAndGet(-bytes)
+    }
+
+    /**
+     * Returns the first stack frame outside of kgpu's marshalling code, which is where the memory
+     * was requested from. Only walks the stack while tracking is enabled.
+     */
+    internal fun callSite(): String {
+        if (!enabled)
+            return ""
+
+        return walker.walk { frames ->
+            frames.map { it.toStackTraceElement() }
+                .filter { it.className !in INTERNAL_CLASSES && !it.className.startsWith(BINDINGS_PACKAGE) }
+                .findFirst()
+        }.map { it.toString() }.orElse("unknown")
+    }
+
+    /**
+     * Runs [frame] [warmupFrames] times so that arenas and pools reach their steady state, and then
+     * [frames] more times. Throws if the outstanding bytes of any site grew over the measured frames.
+     *
+     * @throws IllegalStateException if tracking is not enabled or host memory grew
+     */
+    fun assertNoGrowth(frames: Int, warmupFrames: Int = 2, frame: () -> Unit) {
+        if (!enabled)
+            throw IllegalStateException("Native memory tracking is disabled, set kgpu.trackNativeMemory=true")
+
+        repeat(warmupFrames) { frame() }
+        val before = outstandingBySite()
+        repeat(frames) { frame() }
+        val after = outstandingBySite()
+
+        val growth = after.mapValues { (site, bytes) -> bytes - (before[site] ?: 0L) }.filterValues { it > 0 }
+        if (growth.isNotEmpty()) {
+            val report = growth.entries.sortedByDescending { it.value }
+                .joinToString("\n") { (site, bytes) -> "    +$bytes bytes at $site" }
+            throw IllegalStateException("Host memory grew over $frames frames:\n$report")
+        }
+    }
+
+    override fun toString(): String {
+        return "NativeMemoryTracker(enabled = $enabled, outstandingBytes = $outstandingBytes, allocations = $allocations)"
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.kgpu
+
+import jdk.incubator.foreign.CLinker
+import jdk.incubator.foreign.MemoryAddress
+import jdk.incubator.foreign.MemorySegment
+import jdk.incubator.foreign.NativeScope
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * An interned pool of immutable, null terminated UTF-8 strings. Strings that are passed to
+ * wgpu-native over and over again, such as entry points and labels, are encoded once and then
+ * shared for the rest of the process.
+ *
+ * Pooled strings are never freed, so the pool is bounded by the `kgpu.stringPoolSize` system
+ * property. Once the pool is full, new strings are encoded into the caller's scope instead.
+ */
+object NativeStringPool {
+    val maxSize = KgpuProperties.stringPoolSize
+
+    private val strings = ConcurrentHashMap<String, MemorySegment>()
+    private val hitCount = AtomicLong()
+    private val missCount = AtomicLong()
+    private val rejectedCount = AtomicLong()
+    private val byteCount = AtomicLong()
+
+    /** The number of lookups that were served by an already encoded string */
+    val hits: Long
+        get() = hitCount.get()
+
+    /** The number of strings that were encoded and added to the pool */
+    val misses: Long
+        get() = missCount.get()
+
+    /** The number of lookups that could not be pooled because the pool was full */
+    val rejected: Long
+        get() = rejectedCount.get()
+
+    /** The number of native bytes held by the pool */
+    val bytes: Long
+        get() = byteCount.get()
+
+    val size: Int
+        get() = strings.size
+
+    /**
+     * Returns the address of a pooled copy of [value]. If the pool is full, the string is encoded
+     * into [scope] instead, so the returned address is valid for at least the lifetime of [scope].
+     */
+    fun get(value: String, scope: NativeScope): MemoryAddress {
+        return lookup(value)?.address() ?: run {
+            rejectedCount.incrementAndGet()
+            CLinker.toCString(value, scope).address()
+        }
+    }
+
+    private fun lookup(value: String): MemorySegment? {
+        val existing = strings[value]
+        if (existing != null) {
+            hitCount.incrementAndGet()
+            return existing
+        }
+
+        if (strings.size >= maxSize)
+            return null
+
+        return strings.computeIfAbsent(value) {
+            missCount.incrementAndGet()
+            CLinker.toCString(it).share().also { segment ->
+                byteCount.addAndGet(segment.byteSize())
+                NativeMemoryTracker.allocated("NativeStringPool", segment.byteSize())
+            }
+        }
+    }
+
+    override fun toString(): String {
+        return "NativeStringPool(size = $size, bytes = $bytes, hits = $hits, misses = $misses, rejected = $rejected)"
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.kgpu
+
+/**
+ * A shadow copy of the state bound in a pass encoder. Each update returns false if the pass
+ * already has the same state bound, so the encoder can skip the native call. Filtering can be
+ * turned off with the `kgpu.filterRedundantState` system property.
+ */
+internal class PassStateFilter(val enabled: Boolean) {
+    private var pipeline = 0L
+    private val bindGroups = LongArray(MAX_BIND_GROUPS)
+    private val bindGroupOffsets = arrayOfNulls<IntArray>(MAX_BIND_GROUPS)
+    private val vertexBuffers = LongArray(MAX_VERTEX_BUFFERS)
+    private val vertexOffsets = LongArray(MAX_VERTEX_BUFFERS)
+    private val vertexSizes = LongArray(MAX_VERTEX_BUFFERS)
+    private var indexBuffer = 0L
+    private var indexFormat = 0
+    private var indexOffset = 0L
+    private var indexSize = 0L
+
+    /** The number of updates that did not change the state */
+    var elided = 0L
+        private set
+
+    fun updatePipeline(id: Id): Boolean {
+        if (!enabled)
+            return true
+        if (pipeline == id.id)
+            return elide()
+
+        pipeline = id.id
+        return true
+    }
+
+    fun updateBindGroup(index: Int, id: Id, dynamicOffsets: IntArray): Boolean {
+        if (!enabled || index !in 0 until MAX_BIND_GROUPS)
+            return true
+        if (bindGroups[index] == id.id && bindGroupOffsets[index].contentEquals(dynamicOffsets))
+            return elide()
+
+        bindGroups[index] = id.id
+        bindGroupOffsets[index] = if (dynamicOffsets.isEmpty()) NO_DYNAMIC_OFFSETS else dynamicOffsets.copyOf()
+        return true
+    }
+
+    fun updateVertexBuffer(slot: Int, id: Id, offset: Long, size: Long): Boolean {
+        if (!enabled || slot !in 0 until MAX_VERTEX_BUFFERS)
+            return true
+        if (vertexBuffers[slot] == id.id && vertexOffsets[slot] == offset && vertexSizes[slot] == size)
+            return elide()
+
+        vertexBuffers[slot] = id.id
+        vertexOffsets[slot] = offset
+        vertexSizes[slot] = size
+        return true
+    }
+
+    fun updateIndexBuffer(id: Id, format: Int, offset: Long, size: Long): Boolean {
+        if (!enabled)
+            return true
+        if (indexBuffer == id.id && indexFormat == format && indexOffset == offset && indexSize == size)
+            return elide()
+
+        indexBuffer = id.id
+        indexFormat = format
+        indexOffset = offset
+        indexSize = size
+        return true
+    }
+
+    /** Forgets the bound state, for commands that unset it such as executing render bundles */
+    fun reset() {
+        pipeline = 0
+        bindGroups.fill(0)
+        bindGroupOffsets.fill(null)
+        vertexBuffers.fill(0)
+        indexBuffer = 0
+    }
+
+    private fun elide(): Boolean {
+        elided++
+        return false
+    }
+
+    companion object {
+        private const val MAX_BIND_GROUPS = 8
+        private const val MAX_VERTEX_BUFFERS = 16
+
+        val NO_DYNAMIC_OFFSETS = IntArray(0)
+    }
+}
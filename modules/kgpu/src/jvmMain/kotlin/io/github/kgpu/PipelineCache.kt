@@ -0,0 +1,177 @@
+package io.github.kgpu
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+
+/**
+ * Caches pipelines by the structure of their descriptors, so identical descriptors are only
+ * marshalled and compiled once. Each [Device] owns a cache which is used by
+ * [Device.createRenderPipeline] and [Device.createComputePipeline].
+ *
+ * Shader modules and layouts are compared by identity, everything else is compared by value. The
+ * depth stencil state is ignored, since it is not passed to wgpu-native on the desktop. The cache
+ * holds at most [maxSize] pipelines of each kind and evicts the least recently used entry when it
+ * is full. The size can be set with the `kgpu.pipelineCacheSize` system property, and a size of 0
+ * disables caching.
+ *
+ * Pipelines are compiled outside of the cache's lock, so different pipelines can be compiled in
+ * parallel. Concurrent requests for the same descriptor wait for the first one to finish instead
+ * of compiling it again.
+ */
+class PipelineCache internal constructor(val maxSize: Int) {
+    private val renderPipelines = LruMap<CompletableFuture<RenderPipeline>>()
+    private val computePipelines = LruMap<CompletableFuture<ComputePipeline>>()
+
+    var hits = 0L
+        @Synchronized get
+        private set
+    var misses = 0L
+        @Synchronized get
+        private set
+    var evictions = 0L
+        @Synchronized get
+        private set
+
+    val size: Int
+        @Synchronized get() = renderPipelines.size + computePipelines.size
+
+    internal fun getOrCreate(desc: RenderPipelineDescriptor, create: () -> RenderPipeline): RenderPipeline {
+        if (maxSize == 0)
+            return create()
+
+        return lookup(renderPipelines, structuralKey(desc), create)
+    }
+
+    internal fun getOrCreate(desc: ComputePipelineDescriptor, create: () -> ComputePipeline): ComputePipeline {
+        if (maxSize == 0)
+            return create()
+
+        return lookup(computePipelines, structuralKey(desc), create)
+    }
+
+    /** Returns the cached pipeline for [desc], or null if it has to be created or is still compiling */
+    @Synchronized
+    internal fun get(desc: RenderPipelineDescriptor): RenderPipeline? {
+        return find(renderPipelines, structuralKey(desc))
+    }
+
+    @Synchronized
+    internal fun get(desc: ComputePipelineDescriptor): ComputePipeline? {
+        return find(computePipelines, structuralKey(desc))
+    }
+
+    @Synchronized
+    fun clear() {
+        renderPipelines.clear()
+        computePipelines.clear()
+    }
+
+    // Misses are counted by the getOrCreate that follows
+    private fun <T> find(map: LruMap<CompletableFuture<T>>, key: List<Any?>): T? {
+        if (maxSize == 0)
+            return null
+
+        val cached = map[key]?.takeIf { it.isDone && !it.isCompletedExceptionally }
+        if (cached != null) hits++
+
+        return cached?.join()
+    }
+
+    private fun <T> lookup(map: LruMap<CompletableFuture<T>>, key: List<Any?>, create: () -> T): T {
+        val future = CompletableFuture<T>()
+        val cached = synchronized(this) {
+            val existing = map[key]
+            if (existing != null) {
+                hits++
+            } else {
+                misses++
+                map[key] = future
+            }
+
+            existing
+        }
+
+        // Another thread is creating or has created the pipeline
+        if (cached != null)
+            return cached.joinUnwrapped()
+
+        val pipeline = try {
+            create()
+        } catch (e: Throwable) {
+            future.completeExceptionally(e)
+            synchronized(this) { map.remove(key, future) }
+            throw e
+        }
+
+        future.complete(pipeline)
+        return future.join()
+    }
+
+    @Synchronized
+    override fun toString(): String {
+        return "PipelineCache(size = $size, hits = $hits, misses = $misses, evictions = $evictions)"
+    }
+
+    private inner class LruMap<T> : LinkedHashMap<List<Any?>, T>(16, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<List<Any?>, T>?): Boolean {
+            if (size > maxSize) {
+                evictions++
+                return true
+            }
+
+            return false
+        }
+    }
+
+    companion object {
+        private fun structuralKey(desc: RenderPipelineDescriptor): List<Any?> {
+            return listOf(
+                desc.layout.id.id,
+                desc.vertex.module.id.id,
+                desc.vertex.entryPoint,
+                desc.vertex.buffers.map { buffer ->
+                    listOf(
+                        buffer.arrayStride,
+                        buffer.stepMode,
+                        buffer.attributes.map { listOf(it.format, it.offset, it.shaderLocation) }
+                    )
+                },
+                desc.primitive.topology,
+                desc.primitive.stripIndexFormat,
+                desc.primitive.frontFace,
+                desc.primitive.cullMode,
+                // The untyped depth stencil state is not marshalled, so it is left out of the key
+                desc.multisample.count,
+                desc.multisample.mask,
+                desc.multisample.alphaToCoverageEnabled,
+                desc.fragment?.module?.id?.id,
+                desc.fragment?.entryPoint,
+                desc.fragment?.targets?.map { target ->
+                    listOf(
+                        target.format,
+                        target.writeMask,
+                        target.blendState?.color?.let { listOf(it.srcFactor, it.dstFactor, it.operation) },
+                        target.blendState?.alpha?.let { listOf(it.srcFactor, it.dstFactor, it.operation) }
+                    )
+                }
+            )
+        }
+
+        private fun structuralKey(desc: ComputePipelineDescriptor): List<Any?> {
+            return listOf(
+                desc.layout.id.id,
+                desc.computeStage.module.id.id,
+                desc.computeStage.entryPoint
+            )
+        }
+    }
+}
+
+/** Waits for a future and rethrows the exception it failed with, instead of a [CompletionException] */
+internal fun <T> CompletableFuture<T>.joinUnwrapped(): T {
+    try {
+        return join()
+    } catch (e: CompletionException) {
+        throw e.cause ?: e
+    }
+}
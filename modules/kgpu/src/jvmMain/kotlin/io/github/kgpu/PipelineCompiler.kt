@@ -0,0 +1,146 @@
+package io.github.kgpu
+
+import kotlinx.coroutines.suspendCancellableCoroutine
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.PriorityBlockingQueue
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+import kotlin.coroutines.resumeWithException
+
+/**
+ * Compiles shader modules and pipelines on a bounded pool of worker threads, so that loading
+ * materials does not stall the render thread. Work is ordered by priority, so the materials that
+ * are visible can be compiled before the ones that are not:
+ * ```
+ * val pipeline = compiler.createRenderPipeline(desc, if (visible) PRIORITY_VISIBLE else PRIORITY_PREFETCH)
+ * ```
+ * Work that has not started yet is skipped if its coroutine is cancelled. Pipelines go through the
+ * device's [PipelineCache], so a material that is requested twice is only compiled once, and a
+ * pipeline whose coroutine was cancelled while it compiled stays in the cache. Shader modules whose
+ * coroutine was cancelled are kept for the next request with the same source. The number of
+ * workers can be set with the `kgpu.compilerThreads` system property.
+ */
+class PipelineCompiler(private val device: Device, val threads: Int = DEFAULT_THREADS) {
+    private class Task(val priority: Int, val sequence: Long, val action: () -> Unit) : Runnable, Comparable<Task> {
+        @Volatile
+        var cancelled = false
+
+        override fun run() {
+            if (!cancelled)
+                action()
+        }
+
+        // Higher priorities first, then in the order the work was submitted
+        override fun compareTo(other: Task): Int {
+            if (priority != other.priority)
+                return other.priority.compareTo(priority)
+
+            return sequence.compareTo(other.sequence)
+        }
+    }
+
+    private val sequence = AtomicLong()
+    private val compiledCount = AtomicLong()
+    private val workerCount = AtomicInteger()
+    private val orphanedModules = ConcurrentHashMap<String, ShaderModule>()
+    private val executor = ThreadPoolExecutor(
+        threads,
+        threads,
+        0,
+        TimeUnit.MILLISECONDS,
+        PriorityBlockingQueue<Runnable>(),
+        ThreadFactory { runnable ->
+            val worker = Runnable {
+                try {
+                    runnable.run()
+                } finally {
+                    NativeArena.release()
+                }
+            }
+            val thread = Thread(worker, "kgpu-pipeline-compiler-${workerCount.incrementAndGet()}")
+            thread.isDaemon = true
+            thread
+        }
+    )
+
+    init {
+        if (threads < 1)
+            throw IllegalArgumentException("At least one compiler thread is required: $threads")
+
+        // Idle core threads take the first tasks directly, bypassing the priority queue
+        executor.prestartAllCoreThreads()
+    }
+
+    /** The number of tasks waiting for a worker */
+    val pendingCount: Int
+        get() = executor.queue.size
+
+    /** The number of shader modules and pipelines that have been created */
+    val compiled: Long
+        get() = compiledCount.get()
+
+    suspend fun createShaderModule(src: String, priority: Int = PRIORITY_DEFAULT): ShaderModule {
+        orphanedModules.remove(src)?.let { return it }
+
+        // Shader modules cannot be dropped, so one that nobody is waiting for is kept for later
+        return submit(priority, { module -> orphanedModules.putIfAbsent(src, module) }) {
+            device.createShaderModule(src)
+        }
+    }
+
+    // Pipelines stay in the device's pipeline cache when nobody is waiting for them
+    suspend fun createRenderPipeline(desc: RenderPipelineDescriptor, priority: Int = PRIORITY_DEFAULT): RenderPipeline {
+        return submit(priority, {}) { device.createRenderPipeline(desc) }
+    }
+
+    suspend fun createComputePipeline(desc: ComputePipelineDescriptor, priority: Int = PRIORITY_DEFAULT): ComputePipeline {
+        return submit(priority, {}) { device.createComputePipeline(desc) }
+    }
+
+    /**
+     * Runs [create] on a worker. If the coroutine was cancelled while [create] was running, the
+     * result is handed to [orphaned] instead of being dropped.
+     */
+    private suspend fun <T> submit(priority: Int, orphaned: (T) -> Unit, create: () -> T): T {
+        return suspendCancellableCoroutine { continuation ->
+            val task = Task(priority, sequence.getAndIncrement()) {
+                val result = try {
+                    create()
+                } catch (e: Throwable) {
+                    continuation.resumeWithException(e)
+                    return@Task
+                }
+
+                compiledCount.incrementAndGet()
+                if (continuation.isActive) {
+                    continuation.resume(result) { orphaned(result) }
+                } else {
+                    orphaned(result)
+                }
+            }
+
+            continuation.invokeOnCancellation { task.cancelled = true }
+            executor.execute(task)
+        }
+    }
+
+    /** Stops the workers once the work that has already been submitted has finished */
+    fun shutdown() {
+        executor.shutdown()
+    }
+
+    override fun toString(): String {
+        return "PipelineCompiler(threads = $threads, pending = $pendingCount, compiled = $compiled)"
+    }
+
+    companion object {
+        const val PRIORITY_PREFETCH = -100
+        const val PRIORITY_DEFAULT = 0
+        const val PRIORITY_VISIBLE = 100
+
+        val DEFAULT_THREADS = KgpuProperties.compilerThreads
+    }
+}
@@ -0,0 +1,188 @@
+package io.github.kgpu
+
+import java.util.concurrent.ConcurrentHashMap
+
+enum class ResourceKind {
+    BUFFER,
+    TEXTURE
+}
+
+/**
+ * A live buffer or texture.
+ *
+ * @param usageClass the most significant usage of the resource, see [ResourceRegistry.bufferUsageClass] and
+ * [ResourceRegistry.textureUsageClass]
+ * @param creationSite the first stack frame outside of kgpu that created the resource, or an empty
+ * string if creation sites are not tracked
+ */
+class ResourceRecord(
+    val id: Long,
+    val kind: ResourceKind,
+    val label: String,
+    val size: Long,
+    val usage: Long,
+    val usageClass: String,
+    val creationSite: String
+) {
+    override fun toString(): String {
+        return "ResourceRecord(kind = $kind, label = $label, size = $size, usage = $usageClass, creationSite = $creationSite)"
+    }
+}
+
+/** An immutable copy of the registry, suitable for handing to a metrics exporter */
+class ResourceSnapshot(val records: List<ResourceRecord>) {
+    val count: Int
+        get() = records.size
+
+    val totalBytes: Long = records.sumOf { it.size }
+
+    val bufferBytes: Long = records.filter { it.kind == ResourceKind.BUFFER }.sumOf { it.size }
+
+    val textureBytes: Long = records.filter { it.kind == ResourceKind.TEXTURE }.sumOf { it.size }
+
+    /** The total size of the resources in each usage class */
+    val bytesByUsage: Map<String, Long> = records.groupBy { it.usageClass }
+        .mapValues { (_, group) -> group.sumOf { it.size } }
+
+    /** Returns the [n] largest resources */
+    fun top(n: Int): List<ResourceRecord> {
+        return records.sortedByDescending { it.size }.take(n)
+    }
+
+    override fun toString(): String {
+        return "ResourceSnapshot(count = $count, totalBytes = $totalBytes, bytesByUsage = $bytesByUsage)"
+    }
+}
+
+/**
+ * Records every buffer and texture created through a [Device] until it is destroyed, so that the
+ * GPU memory held by the process can be inspected. Sizes of textures are estimated from their
+ * format, extent, mip levels and sample count, and do not include the driver's padding.
+ *
+ * Recording the creation site walks the stack on every create, so it is off by default and can be
+ * turned on with the `kgpu.trackCreationSites` system property.
+ */
+class ResourceRegistry internal constructor(val trackCreationSites: Boolean) {
+    private val records = ConcurrentHashMap<Long, ResourceRecord>()
+
+    val count: Int
+        get() = records.size
+
+    val totalBytes: Long
+        get() = records.values.sumOf { it.size }
+
+    /** The total size of the live resources in each usage class */
+    fun bytesByUsage(): Map<String, Long> {
+        return snapshot().bytesByUsage
+    }
+
+    /** Returns the [n] largest live resources */
+    fun top(n: Int): List<ResourceRecord> {
+        return snapshot().top(n)
+    }
+
+    fun snapshot(): ResourceSnapshot {
+        return ResourceSnapshot(records.values.toList())
+    }
+
+    internal fun registerBuffer(id: Id, desc: BufferDescriptor) {
+        val usage = desc.usage.toLong()
+        records[id.id] = ResourceRecord(
+            id.id,
+            ResourceKind.BUFFER,
+            desc.label,
+            desc.size,
+            usage,
+            bufferUsageClass(desc.usage),
+            creationSite()
+        )
+    }
+
+    internal fun registerTexture(id: Id, desc: TextureDescriptor) {
+        records[id.id] = ResourceRecord(
+            id.id,
+            ResourceKind.TEXTURE,
+            "",
+            textureSize(desc),
+            desc.usage,
+            textureUsageClass(desc.usage),
+            creationSite()
+        )
+    }
+
+    internal fun unregister(id: Id) {
+        records.remove(id.id)
+    }
+
+    private fun creationSite(): String {
+        if (!trackCreationSites)
+            return ""
+
+        return STACK_WALKER.walk { frames ->
+            frames.filter { it.declaringClass.packageName != KGPU_PACKAGE }.findFirst()
+        }.map { it.toStackTraceElement().toString() }.orElse("")
+    }
+
+    override fun toString(): String {
+        return "ResourceRegistry(count = $count, totalBytes = $totalBytes)"
+    }
+
+    companion object {
+        private const val KGPU_PACKAGE = "io.github.kgpu"
+        private val STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE)
+
+        /** Classifies a buffer by its most significant usage. Buffers only used for copies are "copy" */
+        fun bufferUsageClass(usage: Int): String {
+            return when {
+                usage and BufferUsage.VERTEX != 0 -> "vertex"
+                usage and BufferUsage.INDEX != 0 -> "index"
+                usage and BufferUsage.UNIFORM != 0 -> "uniform"
+                usage and BufferUsage.STORAGE != 0 -> "storage"
+                usage and BufferUsage.INDIRECT != 0 -> "indirect"
+                usage and BufferUsage.QUERY_RESOLVE != 0 -> "query"
+                usage and (BufferUsage.MAP_READ or BufferUsage.MAP_WRITE) != 0 -> "staging"
+                else -> "copy"
+            }
+        }
+
+        /** Classifies a texture by its most significant usage. Textures only used for copies are "copy" */
+        fun textureUsageClass(usage: Long): String {
+            return when {
+                usage and TextureUsage.OUTPUT_ATTACHMENT != 0L -> "attachment"
+                usage and TextureUsage.STORAGE != 0L -> "storage"
+                usage and TextureUsage.SAMPLED != 0L -> "sampled"
+                else -> "copy"
+            }
+        }
+
+        private fun textureSize(desc: TextureDescriptor): Long {
+            var width = desc.size.width
+            var height = desc.size.height
+            var depth = desc.size.depth
+            var texels = 0L
+
+            for (level in 0 until maxOf(1L, desc.mipLevelCount)) {
+                texels += width * height * depth
+                width = maxOf(1L, width / 2)
+                height = maxOf(1L, height / 2)
+                // Only 3D textures shrink in depth, the depth of other textures counts array layers
+                if (desc.dimension == TextureDimension.D3)
+                    depth = maxOf(1L, depth / 2)
+            }
+
+            return texels * bytesPerTexel(desc.format) * desc.sampleCount
+        }
+
+        private fun bytesPerTexel(format: TextureFormat): Long {
+            return when (format) {
+                TextureFormat.R8_UNORM, TextureFormat.R8_SNORM, TextureFormat.R8_UINT, TextureFormat.R8_SINT -> 1
+                TextureFormat.R16_UINT, TextureFormat.R16_SINT, TextureFormat.R16_FLOAT,
+                TextureFormat.RG8_UNORM, TextureFormat.RG8_SNORM, TextureFormat.RG8_UINT, TextureFormat.RG8_SINT -> 2
+                TextureFormat.RG32_UINT, TextureFormat.RG32_SINT, TextureFormat.RG32_FLOAT,
+                TextureFormat.RGBA16_UINT, TextureFormat.RGBA16_SINT, TextureFormat.RGBA16_FLOAT -> 8
+                TextureFormat.RGBA32_UINT, TextureFormat.RGBA32_SINT, TextureFormat.RGBA32_FLOAT -> 16
+                else -> 4
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.github.kgpu
 
 import java.io.*
 import java.lang.Exception
+import java.util.Properties
 import java.util.zip.CRC32
 
 /**
@@ -12,6 +13,21 @@ import java.util.zip.CRC32
  * @author Noah Charlton
  */
 internal class SharedLibraryLoader {
+    private val stageTimings = LinkedHashMap<String, Long>()
+
+    /** How long each stage of loading took, in nanoseconds */
+    val timings: Map<String, Long>
+        get() = stageTimings
+
+    private inline fun <T> timed(stage: String, action: () -> T): T {
+        val start = System.nanoTime()
+        try {
+            return action()
+        } finally {
+            stageTimings[stage] = (stageTimings[stage] ?: 0) + System.nanoTime() - start
+        }
+    }
+
     private fun crc(input: InputStream?): String {
         if (input == null) throw IllegalArgumentException("input cannot be null.")
         val crc = CRC32()
@@ -38,7 +54,7 @@ internal class SharedLibraryLoader {
     fun load(libraryName: String): File {
         val platformName = mapLibraryName(libraryName)
         try {
-            return loadFile(platformName)
+            return timed("total") { loadFromLibraryPath(platformName) ?: loadFile(platformName) }
         } catch (ex: Throwable) {
             throw RuntimeException(
                 "Couldn't load shared library '"
@@ -50,50 +66,92 @@ internal class SharedLibraryLoader {
         }
     }
 
+    /**
+     * Loads the library straight from java.library.path if it is installed there, which skips
+     * extraction entirely. Can be disabled with the `kgpu.skipLibraryPath` system property.
+     */
+    private fun loadFromLibraryPath(platformName: String): File? {
+        if (KgpuProperties.skipLibraryPath)
+            return null
+
+        val paths = System.getProperty("java.library.path") ?: return null
+        return timed("libraryPath") {
+            paths.split(File.pathSeparator)
+                .map { File(it, platformName) }
+                .firstOrNull { it.isFile && loadLibrary(it) == null }
+        }
+    }
+
+    /**
+     * Reads the manifest generated by wgpuj at build time, which holds the CRC and size of each
+     * bundled library. Returns null if the manifest is not on the classpath.
+     */
+    private fun readManifest(): Properties? {
+        val input = SharedLibraryLoader::class.java.getResourceAsStream("/$MANIFEST_PATH") ?: return null
+        return try {
+            Properties().apply { load(input) }
+        } catch (ex: IOException) {
+            null
+        } finally {
+            closeQuietly(input)
+        }
+    }
+
     private fun readFile(path: String): InputStream {
         return SharedLibraryLoader::class.java.getResourceAsStream("/$path")
             ?: throw RuntimeException("Unable to read file for extraction: $path")
     }
 
-    private fun extractFile(sourcePath: String, sourceCrc: String, extractedFile: File): File {
+    private fun extractFile(sourcePath: String, sourceCrc: String, sourceSize: Long?, extractedFile: File): File {
         var extractedCrc: String? = null
         if (extractedFile.exists()) {
-            try {
-                extractedCrc = crc(FileInputStream(extractedFile))
-            } catch (ignored: FileNotFoundException) {
+            if (sourceSize != null) {
+                // The directory is named after the manifest CRC, so a file with the same size is
+                // the same library and does not need to be read again.
+                if (extractedFile.length() == sourceSize)
+                    extractedCrc = sourceCrc
+            } else {
+                try {
+                    extractedCrc = timed("crcExtracted") { crc(FileInputStream(extractedFile)) }
+                } catch (ignored: FileNotFoundException) {
+                }
             }
         }
 
         // If file doesn't exist or the CRC doesn't match, extract it to the temp dir.
         if (extractedCrc == null || extractedCrc != sourceCrc) {
-            var input: InputStream? = null
-            var output: FileOutputStream? = null
-            try {
-                input = readFile(sourcePath)
-                extractedFile.parentFile.mkdirs()
-                output = FileOutputStream(extractedFile)
-                val buffer = ByteArray(4096)
-                while (true) {
-                    val length = input.read(buffer)
-                    if (length == -1) break
-                    output.write(buffer, 0, length)
-                }
-            } catch (ex: IOException) {
-                throw RuntimeException(
-                    "Error extracting file: "
-                            + sourcePath
-                            + "\nTo: "
-                            + extractedFile.absolutePath,
-                    ex
-                )
-            } finally {
-                closeQuietly(input)
-                closeQuietly(output)
-            }
+            timed("extract") { copyResource(sourcePath, extractedFile) }
         }
         return extractedFile
     }
 
+    private fun copyResource(sourcePath: String, extractedFile: File) {
+        var input: InputStream? = null
+        var output: FileOutputStream? = null
+        try {
+            input = readFile(sourcePath)
+            extractedFile.parentFile.mkdirs()
+            output = FileOutputStream(extractedFile)
+            val buffer = ByteArray(4096)
+            while (true) {
+                val length = input.read(buffer)
+                if (length == -1) break
+                output.write(buffer, 0, length)
+            }
+        } catch (ex: IOException) {
+            throw RuntimeException(
+                "Error extracting file: "
+                        + sourcePath
+                        + "\nTo: "
+                        + extractedFile.absolutePath,
+                ex
+            )
+        } finally {
+            closeQuietly(input)
+            closeQuietly(output)
+        }
+    }
+
     private fun closeQuietly(closeable: Closeable?) {
         if (closeable == null) return
         try {
@@ -104,7 +162,10 @@ internal class SharedLibraryLoader {
     }
 
     private fun loadFile(sourcePath: String): File {
-        val sourceCrc = crc(readFile(sourcePath))
+        val manifest = timed("readManifest") { readManifest() }
+        val sourceSize = manifest?.getProperty("$sourcePath.size")?.toLongOrNull()
+        val sourceCrc = manifest?.getProperty("$sourcePath.crc")
+            ?: timed("crcSource") { crc(readFile(sourcePath)) }
         val fileName = File(sourcePath).name
 
         // Temp directory with username in path.
@@ -116,38 +177,44 @@ internal class SharedLibraryLoader {
                     + sourceCrc),
             fileName
         )
-        val ex = loadFile(sourcePath, sourceCrc, file) ?: return file
+        val ex = loadFile(sourcePath, sourceCrc, sourceSize, file) ?: return file
 
         // System provided temp directory.
         try {
             file = File.createTempFile(sourceCrc, null)
-            if (file.delete() && loadFile(sourcePath, sourceCrc, file) == null) return file
+            if (file.delete() && loadFile(sourcePath, sourceCrc, sourceSize, file) == null) return file
         } catch (ignored: Throwable) {
         }
 
         // User home.
         file = File(System.getProperty("user.home") + "/.wgpuj/" + sourceCrc, fileName)
-        if (loadFile(sourcePath, sourceCrc, file) == null) return file
+        if (loadFile(sourcePath, sourceCrc, sourceSize, file) == null) return file
 
         // Relative directory.
         file = File(".temp/$sourceCrc", fileName)
-        if (loadFile(sourcePath, sourceCrc, file) == null) return file
+        if (loadFile(sourcePath, sourceCrc, sourceSize, file) == null) return file
 
-        // Fallback to java.library.path location, eg for applets.
-        file = File(System.getProperty("java.library.path"), sourcePath)
-        if (file.exists()) {
-            System.load(file.absolutePath)
-            return file
-        }
         throw RuntimeException(ex)
     }
 
-    private fun loadFile(sourcePath: String, sourceCrc: String, extractedFile: File): Throwable? {
+    private fun loadFile(sourcePath: String, sourceCrc: String, sourceSize: Long?, extractedFile: File): Throwable? {
+        return try {
+            loadLibrary(extractFile(sourcePath, sourceCrc, sourceSize, extractedFile))
+        } catch (ex: Throwable) {
+            ex
+        }
+    }
+
+    private fun loadLibrary(file: File): Throwable? {
         return try {
-            System.load(extractFile(sourcePath, sourceCrc, extractedFile).absolutePath)
+            timed("systemLoad") { System.load(file.absolutePath) }
             null
         } catch (ex: Throwable) {
             ex
         }
     }
+
+    companion object {
+        private const val MANIFEST_PATH = "wgpu_natives.properties"
+    }
 }
\ No newline at end of file
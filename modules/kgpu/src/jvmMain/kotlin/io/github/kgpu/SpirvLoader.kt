@@ -0,0 +1,57 @@
+package io.github.kgpu
+
+import jdk.incubator.foreign.MemoryAccess
+import jdk.incubator.foreign.MemorySegment
+import java.nio.channels.FileChannel
+import java.nio.file.Files
+import java.nio.file.Path
+
+/**
+ * Loads precompiled SPIR-V binaries into native memory without decoding them, for use with
+ * [Device.createShaderModule]. Files are memory mapped, so large shaders are paged in by the OS
+ * instead of being read onto the heap:
+ * ```
+ * val module = SpirvLoader.mapFile(Path.of("shaders/boids.comp.spv")).use { device.createShaderModule(it) }
+ * ```
+ * The returned segments are owned by the caller and can be closed once the module is created.
+ */
+object SpirvLoader {
+    /** The first word of every SPIR-V binary, in the byte order of the binary */
+    const val MAGIC = 0x07230203
+
+    /** Maps a SPIR-V file read only */
+    fun mapFile(path: Path): MemorySegment {
+        return MemorySegment.mapFile(path, 0, Files.size(path), FileChannel.MapMode.READ_ONLY)
+    }
+
+    /**
+     * Copies a SPIR-V binary from the classpath into native memory. Resources inside a jar cannot
+     * be mapped, so they are read once into a temporary array.
+     */
+    fun loadResource(name: String): MemorySegment {
+        val bytes = SpirvLoader::class.java.getResourceAsStream("/${name.removePrefix("/")}")
+            ?.use { it.readAllBytes() }
+            ?: throw IllegalArgumentException("SPIR-V resource not found: $name")
+        val segment = MemorySegment.allocateNative(bytes.size.toLong(), Int.SIZE_BYTES.toLong())
+        segment.copyFrom(MemorySegment.ofArray(bytes))
+
+        return segment
+    }
+
+    /** Checks that [spirv] is a whole number of words and starts with [MAGIC] in native byte order */
+    internal fun validate(spirv: MemorySegment) {
+        if (spirv.byteSize() < Int.SIZE_BYTES || spirv.byteSize() % Int.SIZE_BYTES != 0L)
+            throw IllegalArgumentException("SPIR-V binary size is not a multiple of 4: ${spirv.byteSize()}")
+
+        val magic = MemoryAccess.getIntAtOffset(spirv, 0)
+        if (magic == Integer.reverseBytes(MAGIC))
+            throw IllegalArgumentException("SPIR-V binary is not in native byte order")
+        if (magic != MAGIC)
+            throw IllegalArgumentException("Not a SPIR-V binary: magic number ${Integer.toHexString(magic)}")
+    }
+}
+
+/** Creates a shader module from a SPIR-V file, unmapping the file once the module is created */
+fun Device.createShaderModule(spirv: Path): ShaderModule {
+    return SpirvLoader.mapFile(spirv).use { createShaderModule(it) }
+}
@@ -0,0 +1,31 @@
+package io.github.kgpu
+
+import kotlinx.coroutines.runBlocking
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+
+class DevicePollerTests {
+
+    @Test
+    fun failedStartTest() {
+        val poller = DevicePoller(Id(0))
+        var completed = false
+
+        assertFailsWith<IllegalStateException> {
+            poller.enqueue({ throw IllegalStateException("start failed") }) { _, _ -> completed = true }
+        }
+        assertEquals(0, poller.pendingCount)
+        assertEquals(false, completed)
+    }
+
+    @Test
+    fun failedAwaitTest() {
+        val poller = DevicePoller(Id(0))
+
+        assertFailsWith<IllegalStateException> {
+            runBlocking { poller.await { throw IllegalStateException("start failed") } }
+        }
+        assertEquals(0, poller.pendingCount)
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.kgpu
+
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertNotEquals
+import kotlin.test.assertNotSame
+import kotlin.test.assertSame
+
+class HandleInternerTests {
+
+    private fun uniformLayout(visibility: Long, hasDynamicOffset: Boolean = false): BindGroupLayoutDescriptor {
+        return BindGroupLayoutDescriptor(
+            BindGroupLayoutEntry(0, visibility, BufferBindingLayout(BufferBindingType.UNIFORM, hasDynamicOffset, 0)),
+            BindGroupLayoutEntry(1, visibility, TextureBindingLayout(TextureSampleType.FLOAT, TextureViewDimension.D2, false)),
+            BindGroupLayoutEntry(2, visibility, SamplerBindingLayout(SamplerBindingType.FILTERING))
+        )
+    }
+
+    @Test
+    fun bindGroupLayoutKeyTest() {
+        val key = HandleInterner.structuralKey(uniformLayout(ShaderVisibility.FRAGMENT))
+
+        assertEquals(key, HandleInterner.structuralKey(uniformLayout(ShaderVisibility.FRAGMENT)))
+        assertNotEquals(key, HandleInterner.structuralKey(uniformLayout(ShaderVisibility.VERTEX)))
+        assertNotEquals(key, HandleInterner.structuralKey(uniformLayout(ShaderVisibility.FRAGMENT, true)))
+    }
+
+    @Test
+    fun samplerKeyTest() {
+        val key = HandleInterner.structuralKey(SamplerDescriptor())
+
+        assertEquals(key, HandleInterner.structuralKey(SamplerDescriptor()))
+        assertNotEquals(key, HandleInterner.structuralKey(SamplerDescriptor(magFilter = FilterMode.LINEAR)))
+        assertNotEquals(key, HandleInterner.structuralKey(SamplerDescriptor(addressModeU = AddressMode.REPEAT)))
+    }
+
+    @Test
+    fun pipelineLayoutKeyTest() {
+        val key = HandleInterner.structuralKey(PipelineLayoutDescriptor(BindGroupLayout(Id(1)), BindGroupLayout(Id(2))))
+
+        assertEquals(key, HandleInterner.structuralKey(PipelineLayoutDescriptor(BindGroupLayout(Id(1)), BindGroupLayout(Id(2)))))
+        assertNotEquals(key, HandleInterner.structuralKey(PipelineLayoutDescriptor(BindGroupLayout(Id(2)), BindGroupLayout(Id(1)))))
+    }
+
+    @Test
+    fun internSharesHandlesTest() {
+        val interner = HandleInterner(true)
+        val key = HandleInterner.structuralKey(SamplerDescriptor())
+
+        val first = interner.intern(key) { Any() }
+        val second = interner.intern(HandleInterner.structuralKey(SamplerDescriptor())) { Any() }
+
+        assertSame(first, second)
+        assertEquals(1, interner.size)
+        assertEquals(1, interner.hits)
+        assertEquals(1, interner.misses)
+    }
+
+    @Test
+    fun disabledInternerCreatesEveryHandleTest() {
+        val interner = HandleInterner(false)
+        val key = HandleInterner.structuralKey(SamplerDescriptor())
+
+        assertNotSame(interner.intern(key) { Any() }, interner.intern(key) { Any() })
+        assertEquals(0, interner.size)
+    }
+
+    @Test
+    fun failedCreateIsRetriedTest() {
+        val interner = HandleInterner(true)
+        val key = HandleInterner.structuralKey(SamplerDescriptor())
+
+        assertFailsWith<IllegalStateException> { interner.intern<Any>(key) { throw IllegalStateException("Create failed") } }
+        assertEquals(0, interner.size)
+        assertEquals("sampler", interner.intern(key) { "sampler" })
+    }
+}
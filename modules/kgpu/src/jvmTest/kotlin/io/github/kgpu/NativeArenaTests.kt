@@ -0,0 +1,89 @@
+package io.github.kgpu
+
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertNotSame
+import kotlin.test.assertSame
+
+class NativeArenaTests {
+
+    @Test
+    fun pushPopTest() {
+        val arena = NativeArena(256)
+
+        arena.push()
+        arena.allocate(16, 8)
+        arena.push()
+        arena.allocate(32, 16)
+        assertEquals(48, arena.allocatedBytes())
+
+        arena.pop()
+        assertEquals(16, arena.allocatedBytes())
+        arena.pop()
+        assertEquals(0, arena.allocatedBytes())
+        assertEquals(48, arena.highWaterMark)
+        assertFailsWith<IllegalStateException> { arena.pop() }
+    }
+
+    @Test
+    fun alignmentTest() {
+        val arena = NativeArena(256)
+
+        arena.push().use {
+            arena.allocate(1, 1)
+            val aligned = arena.allocate(8, 8)
+
+            assertEquals(0, aligned.address().toRawLongValue() % 8)
+            assertEquals(16, arena.allocatedBytes())
+            assertFailsWith<IllegalArgumentException> { arena.allocate(8, 12) }
+            assertFailsWith<IllegalArgumentException> { arena.allocate(8, 0) }
+        }
+    }
+
+    @Test
+    fun allocationsAreZeroedTest() {
+        val arena = NativeArena(256)
+
+        arena.push().use { arena.allocate(64, 8).fill(0x7f) }
+        arena.push().use {
+            val segment = arena.allocate(64, 8)
+            assertEquals(0, segment.toByteArray().count { it != 0.toByte() })
+        }
+    }
+
+    @Test
+    fun overflowTest() {
+        val arena = NativeArena(64)
+
+        arena.push().use {
+            arena.allocate(32, 8)
+            val overflow = arena.allocate(128, 8)
+
+            assertEquals(128, overflow.byteSize())
+            assertEquals(32, arena.allocatedBytes())
+            assertEquals(1, arena.overflowCount)
+        }
+        assertEquals(0, arena.allocatedBytes())
+    }
+
+    @Test
+    fun endFrameTest() {
+        NativeArena.push().allocate(32, 8)
+        NativeArena.push().allocate(32, 8)
+
+        NativeArena.endFrame()
+        assertEquals(0, NativeArena.get().allocatedBytes())
+        assertEquals(0, NativeArena.get().frameHighWaterMark)
+        assertFailsWith<IllegalStateException> { NativeArena.get().pop() }
+    }
+
+    @Test
+    fun releaseTest() {
+        val arena = NativeArena.get()
+        assertSame(arena, NativeArena.get())
+
+        NativeArena.release()
+        assertNotSame(arena, NativeArena.get())
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.kgpu
+
+import kotlin.test.Test
+import kotlin.test.assertFailsWith
+import kotlin.test.assertTrue
+
+class NativeMemoryTrackerTests {
+
+    @Test
+    fun enabledTest() {
+        assertTrue(NativeMemoryTracker.enabled, "The test task should set kgpu.trackNativeMemory")
+    }
+
+    @Test
+    fun steadyFrameTest() {
+        val arena = NativeArena(64)
+
+        NativeMemoryTracker.assertNoGrowth(frames = 10) {
+            arena.push().use {
+                arena.allocate(32, 8)
+                arena.allocate(256, 8)
+                NativeStringPool.get("NativeMemoryTrackerTests", arena)
+            }
+            NativeArena.push().use { scope -> scope.allocate(KgpuProperties.arenaSize + 1, 8) }
+        }
+    }
+
+    @Test
+    fun unpoppedOverflowTest() {
+        val arena = NativeArena(64)
+
+        try {
+            val error = assertFailsWith<IllegalStateException> {
+                NativeMemoryTracker.assertNoGrowth(frames = 3) {
+                    arena.push()
+                    arena.allocate(256, 8)
+                }
+            }
+            assertTrue(error.message!!.contains("NativeMemoryTrackerTests"), error.message)
+        } finally {
+            arena.popAll()
+        }
+    }
+}
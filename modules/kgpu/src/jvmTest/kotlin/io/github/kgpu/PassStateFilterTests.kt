@@ -0,0 +1,96 @@
+package io.github.kgpu
+
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+class PassStateFilterTests {
+
+    @Test
+    fun pipelineTest() {
+        val state = PassStateFilter(true)
+
+        assertTrue(state.updatePipeline(Id(1)))
+        assertFalse(state.updatePipeline(Id(1)))
+        assertTrue(state.updatePipeline(Id(2)))
+        assertTrue(state.updatePipeline(Id(1)))
+        assertEquals(1, state.elided)
+    }
+
+    @Test
+    fun bindGroupOffsetsTest() {
+        val state = PassStateFilter(true)
+
+        assertTrue(state.updateBindGroup(0, Id(1), intArrayOf(256)))
+        assertFalse(state.updateBindGroup(0, Id(1), intArrayOf(256)))
+        // The same group with another dynamic offset selects other uniforms
+        assertTrue(state.updateBindGroup(0, Id(1), intArrayOf(512)))
+        assertTrue(state.updateBindGroup(1, Id(1), intArrayOf(512)))
+        assertFalse(state.updateBindGroup(1, Id(1), intArrayOf(512)))
+        assertEquals(2, state.elided)
+    }
+
+    @Test
+    fun offsetsAreCopiedTest() {
+        val state = PassStateFilter(true)
+        val offsets = intArrayOf(256)
+
+        state.updateBindGroup(0, Id(1), offsets)
+        offsets[0] = 512
+        assertTrue(state.updateBindGroup(0, Id(1), offsets))
+    }
+
+    @Test
+    fun vertexAndIndexBuffersTest() {
+        val state = PassStateFilter(true)
+
+        assertTrue(state.updateVertexBuffer(0, Id(1), 0, 64))
+        assertFalse(state.updateVertexBuffer(0, Id(1), 0, 64))
+        assertTrue(state.updateVertexBuffer(0, Id(1), 64, 64))
+        assertTrue(state.updateVertexBuffer(1, Id(1), 64, 64))
+
+        assertTrue(state.updateIndexBuffer(Id(2), 1, 0, 32))
+        assertFalse(state.updateIndexBuffer(Id(2), 1, 0, 32))
+        assertTrue(state.updateIndexBuffer(Id(2), 2, 0, 32))
+        assertEquals(2, state.elided)
+    }
+
+    @Test
+    fun resetTest() {
+        val state = PassStateFilter(true)
+        state.updatePipeline(Id(1))
+        state.updateBindGroup(0, Id(2), PassStateFilter.NO_DYNAMIC_OFFSETS)
+        state.updateVertexBuffer(0, Id(3), 0, 64)
+        state.updateIndexBuffer(Id(4), 1, 0, 32)
+
+        state.reset()
+
+        assertTrue(state.updatePipeline(Id(1)))
+        assertTrue(state.updateBindGroup(0, Id(2), PassStateFilter.NO_DYNAMIC_OFFSETS))
+        assertTrue(state.updateVertexBuffer(0, Id(3), 0, 64))
+        assertTrue(state.updateIndexBuffer(Id(4), 1, 0, 32))
+        assertEquals(0, state.elided)
+    }
+
+    @Test
+    fun disabledTest() {
+        val state = PassStateFilter(false)
+
+        assertTrue(state.updatePipeline(Id(1)))
+        assertTrue(state.updatePipeline(Id(1)))
+        assertTrue(state.updateBindGroup(0, Id(1), PassStateFilter.NO_DYNAMIC_OFFSETS))
+        assertTrue(state.updateBindGroup(0, Id(1), PassStateFilter.NO_DYNAMIC_OFFSETS))
+        assertEquals(0, state.elided)
+    }
+
+    @Test
+    fun outOfRangeSlotsAreNotFilteredTest() {
+        val state = PassStateFilter(true)
+
+        assertTrue(state.updateBindGroup(8, Id(1), PassStateFilter.NO_DYNAMIC_OFFSETS))
+        assertTrue(state.updateBindGroup(8, Id(1), PassStateFilter.NO_DYNAMIC_OFFSETS))
+        assertTrue(state.updateVertexBuffer(16, Id(1), 0, 64))
+        assertTrue(state.updateVertexBuffer(16, Id(1), 0, 64))
+    }
+}
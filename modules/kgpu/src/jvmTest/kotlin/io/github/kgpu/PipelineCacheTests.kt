@@ -0,0 +1,173 @@
+package io.github.kgpu
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.CyclicBarrier
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.test.AfterTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertNotSame
+import kotlin.test.assertSame
+
+class PipelineCacheTests {
+    private val pool = Executors.newFixedThreadPool(4)
+
+    @AfterTest
+    fun shutdown() {
+        pool.shutdownNow()
+    }
+
+    private fun computeDesc(layout: Long, entryPoint: String): ComputePipelineDescriptor {
+        return ComputePipelineDescriptor(
+            PipelineLayout(Id(layout)),
+            ProgrammableStageDescriptor(ShaderModule(Id(1)), entryPoint)
+        )
+    }
+
+    private fun renderDesc(stride: Long, cullMode: CullMode, depthStencil: Any? = null): RenderPipelineDescriptor {
+        val module = ShaderModule(Id(1))
+        return RenderPipelineDescriptor(
+            PipelineLayout(Id(2)),
+            VertexState(
+                module,
+                "vs_main",
+                VertexBufferLayout(stride, InputStepMode.VERTEX, VertexAttribute(VertexFormat.FLOAT32x2, 0, 0))
+            ),
+            PrimitiveState(PrimitiveTopology.TRIANGLE_LIST, cullMode = cullMode),
+            depthStencil,
+            MultisampleState(1, -1, false),
+            FragmentState(module, "fs_main", arrayOf(ColorTargetState(TextureFormat.BGRA8_UNORM, null, 0xF)))
+        )
+    }
+
+    @Test
+    fun equalDescriptorsShareAPipelineTest() {
+        val cache = PipelineCache(16)
+        var created = 0L
+
+        // Separate but equal descriptors, as they would be built each frame
+        val first = cache.getOrCreate(renderDesc(8, CullMode.NONE)) { RenderPipeline(Id(++created)) }
+        val second = cache.getOrCreate(renderDesc(8, CullMode.NONE)) { RenderPipeline(Id(++created)) }
+        val otherStride = cache.getOrCreate(renderDesc(16, CullMode.NONE)) { RenderPipeline(Id(++created)) }
+        val otherCull = cache.getOrCreate(renderDesc(8, CullMode.BACK)) { RenderPipeline(Id(++created)) }
+
+        assertSame(first, second)
+        assertNotSame(first, otherStride)
+        assertNotSame(first, otherCull)
+        assertEquals(3, created)
+        assertEquals(1, cache.hits)
+        assertEquals(3, cache.misses)
+    }
+
+    @Test
+    fun depthStencilStateIsIgnoredTest() {
+        val cache = PipelineCache(16)
+        var created = 0L
+
+        val first = cache.getOrCreate(renderDesc(8, CullMode.NONE, Any())) { RenderPipeline(Id(++created)) }
+        val second = cache.getOrCreate(renderDesc(8, CullMode.NONE, Any())) { RenderPipeline(Id(++created)) }
+
+        assertSame(first, second)
+        assertEquals(1, cache.hits)
+        assertEquals(1, cache.misses)
+    }
+
+    @Test
+    fun layoutsAndModulesAreComparedByIdentityTest() {
+        val cache = PipelineCache(16)
+
+        val first = cache.getOrCreate(computeDesc(1, "main")) { ComputePipeline(Id(1)) }
+        val otherLayout = cache.getOrCreate(computeDesc(2, "main")) { ComputePipeline(Id(2)) }
+
+        assertNotSame(first, otherLayout)
+        assertEquals(0, cache.hits)
+    }
+
+    @Test
+    fun evictsLeastRecentlyUsedTest() {
+        val cache = PipelineCache(2)
+        val a = cache.getOrCreate(computeDesc(1, "a")) { ComputePipeline(Id(1)) }
+        cache.getOrCreate(computeDesc(1, "b")) { ComputePipeline(Id(2)) }
+
+        // Using a makes b the least recently used entry, so b is evicted by c
+        assertSame(a, cache.getOrCreate(computeDesc(1, "a")) { ComputePipeline(Id(3)) })
+        cache.getOrCreate(computeDesc(1, "c")) { ComputePipeline(Id(4)) }
+
+        assertEquals(2, cache.size)
+        assertEquals(1, cache.evictions)
+        assertSame(a, cache.getOrCreate(computeDesc(1, "a")) { ComputePipeline(Id(5)) })
+        assertEquals(6L, cache.getOrCreate(computeDesc(1, "b")) { ComputePipeline(Id(6)) }.id.id)
+    }
+
+    @Test
+    fun zeroSizeDisablesCachingTest() {
+        val cache = PipelineCache(0)
+
+        val first = cache.getOrCreate(computeDesc(1, "main")) { ComputePipeline(Id(1)) }
+        val second = cache.getOrCreate(computeDesc(1, "main")) { ComputePipeline(Id(2)) }
+
+        assertNotSame(first, second)
+        assertEquals(0, cache.size)
+    }
+
+    @Test
+    fun failedCompileIsRetriedTest() {
+        val cache = PipelineCache(16)
+
+        assertFailsWith<IllegalStateException> {
+            cache.getOrCreate(computeDesc(1, "main")) { throw IllegalStateException("Compile failed") }
+        }
+        assertEquals(1L, cache.getOrCreate(computeDesc(1, "main")) { ComputePipeline(Id(1)) }.id.id)
+    }
+
+    @Test
+    fun compilesConcurrentlyTest() {
+        val cache = PipelineCache(16)
+        val barrier = CyclicBarrier(4)
+
+        // Every compile waits at the barrier for the others, so they only finish if they overlap
+        val futures = (0 until 4).map { index ->
+            pool.submit<ComputePipeline> {
+                cache.getOrCreate(computeDesc(1, "main$index")) {
+                    barrier.await(5, TimeUnit.SECONDS)
+                    ComputePipeline(Id(index.toLong()))
+                }
+            }
+        }
+
+        futures.forEachIndexed { index, future -> assertEquals(index.toLong(), future.get(10, TimeUnit.SECONDS).id.id) }
+        assertEquals(4, cache.misses)
+    }
+
+    @Test
+    fun dedupesConcurrentCompilesTest() {
+        val cache = PipelineCache(16)
+        val compiles = AtomicInteger()
+        val started = CountDownLatch(1)
+        val finish = CountDownLatch(1)
+
+        val first = pool.submit<ComputePipeline> {
+            cache.getOrCreate(computeDesc(1, "main")) {
+                compiles.incrementAndGet()
+                started.countDown()
+                finish.await()
+                ComputePipeline(Id(7))
+            }
+        }
+        started.await()
+        val second = pool.submit<ComputePipeline> {
+            cache.getOrCreate(computeDesc(1, "main")) {
+                compiles.incrementAndGet()
+                ComputePipeline(Id(8))
+            }
+        }
+        finish.countDown()
+
+        assertSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS))
+        assertEquals(1, compiles.get())
+        assertEquals(1, cache.hits)
+    }
+}
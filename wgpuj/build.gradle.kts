@@ -102,9 +102,54 @@ tasks {
         into("$projectDir/src/main/resources")
     }
 
+    // Records the CRC and size of each native library so the loader can skip hashing the
+    // library on every start
+    register("generateNativesManifest") {
+        dependsOn("installWgpuNative")
+        val resourceDir = file("$projectDir/src/main/resources")
+        val manifest = file("$buildDir/generated/nativesManifest/wgpu_natives.properties")
+        inputs.dir(resourceDir)
+        outputs.file(manifest)
+
+        doLast {
+            val properties = java.util.Properties()
+            val libraries = resourceDir.listFiles { file ->
+                file.name.endsWith(".so") || file.name.endsWith(".dylib") || file.name.endsWith(".dll")
+            } ?: emptyArray()
+
+            for (library in libraries) {
+                val crc = java.util.zip.CRC32()
+                library.inputStream().use { input ->
+                    val buffer = ByteArray(8192)
+                    while (true) {
+                        val length = input.read(buffer)
+                        if (length == -1) break
+                        crc.update(buffer, 0, length)
+                    }
+                }
+
+                properties["${library.name}.crc"] = crc.value.toString(16)
+                properties["${library.name}.size"] = library.length().toString()
+            }
+
+            manifest.parentFile.mkdirs()
+            manifest.outputStream().use { properties.store(it, "Generated by generateNativesManifest") }
+        }
+    }
+
     val compileJava by getting {
         dependsOn("installWgpuNative")
     }
+
+    val processResources by getting {
+        dependsOn("generateNativesManifest")
+    }
+}
+
+sourceSets {
+    main {
+        resources.srcDir("$buildDir/generated/nativesManifest")
+    }
 }
 
 publishing {